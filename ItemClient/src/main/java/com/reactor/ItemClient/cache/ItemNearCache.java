@@ -0,0 +1,157 @@
+package com.reactor.ItemClient.cache;
+
+import com.reactor.ItemClient.domain.Item;
+import com.reactor.ItemClient.domain.ItemInvalidation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of items kept coherent by the reactor invalidation stream. Entries are only served while the
+ * stream is connected; any disconnect empties the cache, so staleness is bounded by the stream latency, with the
+ * time to live as a backstop. Expired entries are removed when read; once the cache is full, storing a new id evicts
+ * from a sample of entries, the expired ones or else the one closest to expiring.
+ */
+@Component
+@Slf4j
+public class ItemNearCache {
+
+    static final int EVICTION_SAMPLE = 16;
+
+    private final WebClient webClient;
+    private final NearCacheProperties nearCacheProperties;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile boolean connected;
+    private Disposable subscription;
+
+    public ItemNearCache(WebClient webClient, NearCacheProperties nearCacheProperties) {
+        this.webClient = webClient;
+        this.nearCacheProperties = nearCacheProperties;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!nearCacheProperties.isEnabled()) {
+            return;
+        }
+        subscription = webClient.get().uri("/v1/stream/items/invalidations")
+                .accept(MediaType.APPLICATION_STREAM_JSON)
+                .retrieve()
+                .bodyToFlux(ItemInvalidation.class)
+                .timeout(nearCacheProperties.getIdleTimeout())
+                .doOnNext(this::onInvalidation)
+                .doOnError(error -> disconnect())
+                .doOnComplete(this::disconnect)
+                .repeat()
+                .retryBackoff(Long.MAX_VALUE, nearCacheProperties.getReconnectMinBackoff(), nearCacheProperties.getReconnectMaxBackoff())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void dispose() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * A load racing with an invalidation is not cached, as it may have read the value before the change.
+     */
+    public Mono<Item> get(String id, Supplier<Mono<Item>> loader) {
+        if (!connected) {
+            return loader.get();
+        }
+        Entry entry = entries.get(id);
+        if (entry != null) {
+            if (entry.expiresAt - System.nanoTime() > 0) {
+                return Mono.just(entry.item);
+            }
+            entries.remove(id, entry);
+        }
+        long invalidationsBeforeLoad = invalidations.get();
+        return loader.get()
+                .doOnNext(item -> {
+                    if (connected && invalidations.get() == invalidationsBeforeLoad) {
+                        store(id, item);
+                    }
+                });
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void store(String id, Item item) {
+        long now = System.nanoTime();
+        if (!entries.containsKey(id) && entries.size() >= nearCacheProperties.getMaxSize()) {
+            evict(now);
+        }
+        entries.put(id, new Entry(item, now + nearCacheProperties.getTimeToLive().toNanos()));
+    }
+
+    private void evict(long nowNanos) {
+        Iterator<Map.Entry<String, Entry>> sample = entries.entrySet().iterator();
+        Map.Entry<String, Entry> earliest = null;
+        boolean evicted = false;
+        for (int i = 0; i < EVICTION_SAMPLE && sample.hasNext(); i++) {
+            Map.Entry<String, Entry> entry = sample.next();
+            if (entry.getValue().expiresAt - nowNanos <= 0) {
+                sample.remove();
+                evicted = true;
+            } else if (earliest == null || entry.getValue().expiresAt - earliest.getValue().expiresAt < 0) {
+                earliest = entry;
+            }
+        }
+        if (!evicted && earliest != null) {
+            entries.remove(earliest.getKey(), earliest.getValue());
+        }
+    }
+
+    public void invalidate(String id) {
+        invalidations.incrementAndGet();
+        entries.remove(id);
+    }
+
+    void onInvalidation(ItemInvalidation invalidation) {
+        if (!connected) {
+            entries.clear();
+            connected = true;
+            log.info("Item invalidation stream connected");
+        }
+        if (invalidation.getType() != ItemInvalidation.Type.HEARTBEAT) {
+            invalidate(invalidation.getId());
+        }
+    }
+
+    private void disconnect() {
+        if (connected) {
+            log.warn("Item invalidation stream disconnected, near cache disabled until reconnected");
+        }
+        connected = false;
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    private static final class Entry {
+
+        private final Item item;
+        private final long expiresAt;
+
+        private Entry(Item item, long expiresAt) {
+            this.item = item;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
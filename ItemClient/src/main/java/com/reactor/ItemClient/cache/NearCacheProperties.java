@@ -0,0 +1,27 @@
+package com.reactor.ItemClient.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("item-client.near-cache")
+@Data
+public class NearCacheProperties {
+
+    private boolean enabled = true;
+    private int maxSize = 10000;
+    /**
+     * Upper bound on staleness should an invalidation be lost.
+     */
+    private Duration timeToLive = Duration.ofSeconds(60);
+    /**
+     * The server sends heartbeats; no signal for this long means the invalidation stream is dead.
+     */
+    private Duration idleTimeout = Duration.ofSeconds(15);
+    private Duration reconnectMinBackoff = Duration.ofMillis(100);
+    private Duration reconnectMaxBackoff = Duration.ofSeconds(10);
+
+}
@@ -0,0 +1,35 @@
+package com.reactor.ItemClient.config;
+
+import com.reactor.ItemClient.controller.ItemClientController;
+import com.reactor.logging.SignalLogging;
+import com.reactor.logging.SignalLoggingProperties;
+import com.reactor.logging.SignalLoggingRoutes;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Wires the shared signal logging under {@code item-client.logging.signals},
+ * with its admin routes at {@code /client/admin/logging/signals}.
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    @ConfigurationProperties("item-client.logging.signals")
+    public SignalLoggingProperties signalLoggingProperties() {
+        return new SignalLoggingProperties();
+    }
+
+    @Bean
+    public SignalLogging signalLogging(SignalLoggingProperties signalLoggingProperties) {
+        return new SignalLogging(signalLoggingProperties, ItemClientController.SIGNAL_ROUTES);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> signalLoggingRoutes(SignalLogging signalLogging) {
+        return SignalLoggingRoutes.of("/client/admin/logging/signals", signalLogging);
+    }
+}
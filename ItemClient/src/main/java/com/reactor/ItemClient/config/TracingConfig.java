@@ -0,0 +1,43 @@
+package com.reactor.ItemClient.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reactor.tracing.SpanSink;
+import com.reactor.tracing.Tracer;
+import com.reactor.tracing.TracingProperties;
+import com.reactor.tracing.TracingWebFilter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Wires the shared tracing library under {@code item-client.tracing}.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConfigurationProperties("item-client.tracing")
+    public TracingProperties tracingProperties() {
+        TracingProperties tracingProperties = new TracingProperties();
+        tracingProperties.setService("item-client");
+        return tracingProperties;
+    }
+
+    @Bean
+    public SpanSink spanSink(TracingProperties tracingProperties, ObjectMapper objectMapper,
+                             WebClient.Builder webClientBuilder) {
+        return SpanSink.of(tracingProperties, objectMapper, webClientBuilder);
+    }
+
+    @Bean
+    public Tracer tracer(TracingProperties tracingProperties, SpanSink spanSink) {
+        return new Tracer(tracingProperties, spanSink);
+    }
+
+    @Bean
+    public TracingWebFilter tracingWebFilter(Tracer tracer, TracingProperties tracingProperties) {
+        return new TracingWebFilter(tracer, tracingProperties, Ordered.HIGHEST_PRECEDENCE);
+    }
+}
@@ -0,0 +1,21 @@
+package com.reactor.ItemClient.config;
+
+import com.reactor.tracing.Tracer;
+import com.reactor.tracing.TracingExchangeFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class WebClientConfig {
+
+    @Bean
+    public WebClient itemWebClient(WebClient.Builder webClientBuilder,
+                                   Tracer tracer,
+                                   @Value("${item-client.base-url:http://localhost:8080}") String baseUrl) {
+        return webClientBuilder.baseUrl(baseUrl)
+                .filter(new TracingExchangeFilter(tracer))
+                .build();
+    }
+}
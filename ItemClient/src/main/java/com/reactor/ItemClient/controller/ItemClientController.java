@@ -1,7 +1,11 @@
 package com.reactor.ItemClient.controller;
 
+import com.reactor.ItemClient.cache.ItemNearCache;
 import com.reactor.ItemClient.domain.Item;
+import com.reactor.ItemClient.resilience.ResilientCalls;
+import com.reactor.logging.SignalLogging;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
@@ -9,70 +13,105 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
+import java.util.List;
+
 @RestController
 @Slf4j
 public class ItemClientController {
 
-    private final WebClient webClient = WebClient.create("http://localhost:8080");
+    /**
+     * The signal logging routes of this controller, the only ones that can be enabled.
+     */
+    public static final List<String> SIGNAL_ROUTES = Arrays.asList("retrieve", "exchange", "retrieve-item",
+            "exchange-item", "create-item", "update-item", "delete-item", "retrieve-error", "exchange-error");
+
+    private final WebClient webClient;
+    private final ResilientCalls resilientCalls;
+    private final ItemNearCache itemNearCache;
+    private final SignalLogging signalLogging;
+    private final int prefetch;
 
-    @GetMapping("/client/retrieve")
+    public ItemClientController(WebClient webClient,
+                                ResilientCalls resilientCalls,
+                                ItemNearCache itemNearCache,
+                                SignalLogging signalLogging,
+                                @Value("${item-client.streaming.prefetch:256}") int prefetch) {
+        this.webClient = webClient;
+        this.resilientCalls = resilientCalls;
+        this.itemNearCache = itemNearCache;
+        this.signalLogging = signalLogging;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Items are read from reactor as newline delimited JSON and requested {@code prefetch} at a time, so relaying
+     * to a caller accepting application/stream+json runs in constant memory whatever the listing size.
+     */
+    @GetMapping(value = "/client/retrieve", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_STREAM_JSON_VALUE})
     public Flux<Item> getAllItemsUsingRetrieve() {
-        return webClient.get().uri("/v1/items")
+        return resilientCalls.flux("items", () -> webClient.get().uri("/v1/items")
+                .accept(MediaType.APPLICATION_STREAM_JSON)
                 .retrieve()
-                .bodyToFlux(Item.class)
-                .log();
+                .bodyToFlux(Item.class))
+                .limitRate(prefetch)
+                .transform(flux -> signalLogging.flux("retrieve", flux));
     }
 
-    @GetMapping("/client/exchange")
+    @GetMapping(value = "/client/exchange", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_STREAM_JSON_VALUE})
     public Flux<Item> getAllItemsUsingExchange() {
-        return webClient.get().uri("/v1/items")
+        return resilientCalls.flux("items", () -> webClient.get().uri("/v1/items")
+                .accept(MediaType.APPLICATION_STREAM_JSON)
                 .exchange()
-                .flatMapMany(clientResponse -> clientResponse.bodyToFlux(Item.class))
-                .log();
+                .flatMapMany(clientResponse -> clientResponse.bodyToFlux(Item.class)))
+                .limitRate(prefetch)
+                .transform(flux -> signalLogging.flux("exchange", flux));
     }
 
     @GetMapping("/client/retrieve/{id}")
     public Mono<Item> getSingleItemsUsingRetrieve(@PathVariable String id) {
-        return webClient.get().uri("/v1/items/{id}", id)
+        return itemNearCache.get(id, () -> resilientCalls.hedged("item", () -> webClient.get().uri("/v1/items/{id}", id)
                 .retrieve()
-                .bodyToMono(Item.class)
-                .log();
+                .bodyToMono(Item.class)))
+                .transform(mono -> signalLogging.mono("retrieve-item", mono));
     }
 
     @GetMapping("/client/exchange/{id}")
     public Mono<Item> getSingleItemsUsingExchange(@PathVariable String id) {
-        return webClient.get().uri("/v1/items/{id}", id)
+        return resilientCalls.hedged("item", () -> webClient.get().uri("/v1/items/{id}", id)
                 .exchange()
-                .flatMap(clientResponse -> clientResponse.bodyToMono(Item.class))
-                .log();
+                .flatMap(clientResponse -> clientResponse.bodyToMono(Item.class)))
+                .transform(mono -> signalLogging.mono("exchange-item", mono));
     }
 
     @PostMapping("/client/create-item")
     public Mono<Item> createItem(@RequestBody Item item) {
-        return webClient.post().uri("/v1/items")
+        return resilientCalls.mono("create-item", false, () -> webClient.post().uri("/v1/items")
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(Mono.just(item), Item.class)
                 .retrieve()
-                .bodyToMono(Item.class)
-                .log();
+                .bodyToMono(Item.class))
+                .transform(mono -> signalLogging.mono("create-item", mono));
     }
 
     @PutMapping("/client/update-item/{id}")
     public Mono<Item> updateItem(@PathVariable String id, @RequestBody Item item) {
-        return webClient.put().uri("/v1/items/{id}", id)
+        return resilientCalls.mono("update-item", true, () -> webClient.put().uri("/v1/items/{id}", id)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(Mono.just(item), Item.class)
                 .retrieve()
-                .bodyToMono(Item.class)
-                .log();
+                .bodyToMono(Item.class))
+                .doOnTerminate(() -> itemNearCache.invalidate(id))
+                .transform(mono -> signalLogging.mono("update-item", mono));
     }
 
     @DeleteMapping("/client/delete-item/{id}")
     public Mono<Void> delete(@PathVariable String id) {
-        return webClient.delete().uri("/v1/items/{id}", id)
+        return resilientCalls.mono("delete-item", true, () -> webClient.delete().uri("/v1/items/{id}", id)
                 .retrieve()
-                .bodyToMono(Void.class)
-                .log();
+                .bodyToMono(Void.class))
+                .doOnTerminate(() -> itemNearCache.invalidate(id))
+                .transform(mono -> signalLogging.mono("delete-item", mono));
     }
 
     @GetMapping("/client/retrieve/error")
@@ -81,11 +120,11 @@ public class ItemClientController {
                 .retrieve()
                 .onStatus(HttpStatus::is5xxServerError, clientResponse -> clientResponse.bodyToMono(String.class)
                         .flatMap(message -> {
-                            log.error("The error message: " + message);
+                            log.error("The error message: {}", message);
                             throw new RuntimeException(message);
                         }))
                 .bodyToFlux(Item.class)
-                .log();
+                .transform(flux -> signalLogging.flux("retrieve-error", flux));
     }
 
     @GetMapping("/client/exchange/error")
@@ -96,12 +135,12 @@ public class ItemClientController {
                     if (clientResponse.statusCode().is5xxServerError()) {
                         return clientResponse.bodyToMono(String.class)
                                 .flatMap(message -> {
-                                    log.error("The error message: " + message);
+                                    log.error("The error message: {}", message);
                                     throw new RuntimeException(message);
                                 });
                     }
                     return clientResponse.bodyToFlux(Item.class);
                 })
-                .log();
+                .transform(flux -> signalLogging.flux("exchange-error", flux));
     }
 }
@@ -0,0 +1,67 @@
+package com.reactor.ItemClient.controller;
+
+import com.reactor.ItemClient.domain.Item;
+import com.reactor.ItemClient.resilience.ResilientCalls;
+import com.reactor.ItemClient.rsocket.ItemRSocketClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same operations as {@link ItemClientController}, carried over RSocket instead of HTTP.
+ */
+@RestController
+public class ItemRSocketClientController {
+
+    private final ItemRSocketClient itemRSocketClient;
+    private final ResilientCalls resilientCalls;
+    private final int prefetch;
+
+    public ItemRSocketClientController(ItemRSocketClient itemRSocketClient,
+                                       ResilientCalls resilientCalls,
+                                       @Value("${item-client.streaming.prefetch:256}") int prefetch) {
+        this.itemRSocketClient = itemRSocketClient;
+        this.resilientCalls = resilientCalls;
+        this.prefetch = prefetch;
+    }
+
+    @GetMapping(value = "/client/rsocket/items", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_STREAM_JSON_VALUE})
+    public Flux<Item> list() {
+        return resilientCalls.flux("rsocket-items", itemRSocketClient::list)
+                .limitRate(prefetch);
+    }
+
+    @GetMapping(value = "/client/rsocket/feed", produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
+    public Flux<Item> feed() {
+        return itemRSocketClient.feed()
+                .limitRate(prefetch);
+    }
+
+    @GetMapping("/client/rsocket/items/{id}")
+    public Mono<Item> get(@PathVariable String id) {
+        return resilientCalls.hedged("rsocket-item", () -> itemRSocketClient.get(id));
+    }
+
+    @PostMapping("/client/rsocket/items")
+    public Mono<Item> create(@RequestBody Item item) {
+        return resilientCalls.mono("rsocket-create-item", false, () -> itemRSocketClient.save(item));
+    }
+
+    @PostMapping(value = "/client/rsocket/items/bulk", consumes = MediaType.APPLICATION_STREAM_JSON_VALUE,
+            produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
+    public Flux<Item> ingest(@RequestBody Flux<Item> items) {
+        return itemRSocketClient.ingest(items);
+    }
+
+    @PutMapping("/client/rsocket/items/{id}")
+    public Mono<Item> update(@PathVariable String id, @RequestBody Item item) {
+        return resilientCalls.mono("rsocket-update-item", true, () -> itemRSocketClient.update(id, item));
+    }
+
+    @DeleteMapping("/client/rsocket/items/{id}")
+    public Mono<Void> delete(@PathVariable String id) {
+        return resilientCalls.mono("rsocket-delete-item", true, () -> itemRSocketClient.delete(id));
+    }
+}
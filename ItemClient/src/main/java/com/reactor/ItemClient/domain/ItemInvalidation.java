@@ -0,0 +1,19 @@
+package com.reactor.ItemClient.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemInvalidation {
+
+    public enum Type {
+        SAVED, UPDATED, DELETED, HEARTBEAT
+    }
+
+    private String id;
+    private Type type;
+
+}
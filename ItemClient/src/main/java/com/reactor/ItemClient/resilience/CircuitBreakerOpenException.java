@@ -0,0 +1,8 @@
+package com.reactor.ItemClient.resilience;
+
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    public CircuitBreakerOpenException(String endpoint) {
+        super("Circuit breaker open for " + endpoint, null, false, false);
+    }
+}
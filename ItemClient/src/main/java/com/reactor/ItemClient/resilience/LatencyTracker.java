@@ -0,0 +1,44 @@
+package com.reactor.ItemClient.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the latest latency samples of an endpoint in a ring buffer and recomputes a percentile every
+ * {@value #RECOMPUTE_EVERY} samples, so reading it is a volatile read.
+ */
+public class LatencyTracker {
+
+    public static final long UNKNOWN = -1;
+
+    private static final int RECOMPUTE_EVERY = 64;
+
+    private final long[] samples;
+    private final double percentile;
+    private final AtomicLong count = new AtomicLong();
+    private volatile long percentileNanos = UNKNOWN;
+
+    public LatencyTracker(int size, double percentile) {
+        this.samples = new long[size];
+        this.percentile = percentile;
+    }
+
+    public void record(long nanos) {
+        long index = count.getAndIncrement();
+        samples[(int) (index % samples.length)] = nanos;
+        if ((index + 1) % RECOMPUTE_EVERY == 0) {
+            recompute();
+        }
+    }
+
+    public long getPercentileNanos() {
+        return percentileNanos;
+    }
+
+    private void recompute() {
+        int size = (int) Math.min(count.get(), samples.length);
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        percentileNanos = sorted[Math.max(0, (int) Math.ceil(percentile * size) - 1)];
+    }
+}
@@ -0,0 +1,51 @@
+package com.reactor.ItemClient.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("item-client.resilience")
+@Data
+public class ResilienceProperties {
+
+    private Duration timeout = Duration.ofSeconds(2);
+    private Retry retry = new Retry();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Hedge hedge = new Hedge();
+
+    @Data
+    public static class Retry {
+
+        private int maxRetries = 2;
+        private Duration firstBackoff = Duration.ofMillis(50);
+        private Duration maxBackoff = Duration.ofSeconds(1);
+        /**
+         * Retries allowed per request sent, across all endpoints.
+         */
+        private double budgetRatio = 0.2;
+        private int budgetMinRetries = 10;
+
+    }
+
+    @Data
+    public static class CircuitBreaker {
+
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private Duration openDuration = Duration.ofSeconds(5);
+
+    }
+
+    @Data
+    public static class Hedge {
+
+        private boolean enabled = true;
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(10);
+
+    }
+}
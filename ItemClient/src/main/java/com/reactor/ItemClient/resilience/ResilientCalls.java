@@ -0,0 +1,177 @@
+package com.reactor.ItemClient.resilience;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Wraps calls to the reactor service with a timeout, a circuit breaker per endpoint, retries with jittered
+ * exponential backoff drawn from a global {@link RetryBudget} and, for idempotent reads, hedging once the call
+ * takes longer than the endpoint's observed latency percentile.
+ */
+@Component
+public class ResilientCalls {
+
+    private static final int LATENCY_SAMPLES = 1024;
+
+    private final ResilienceProperties resilienceProperties;
+    private final RetryBudget retryBudget;
+    private final ConcurrentHashMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+
+    public ResilientCalls(ResilienceProperties resilienceProperties) {
+        this.resilienceProperties = resilienceProperties;
+        this.retryBudget = new RetryBudget(resilienceProperties.getRetry().getBudgetRatio(),
+                resilienceProperties.getRetry().getBudgetMinRetries());
+    }
+
+    /**
+     * Non idempotent calls go through the circuit breaker and timeout but are never retried.
+     */
+    public <T> Mono<T> mono(String endpoint, boolean idempotent, Supplier<Mono<T>> call) {
+        int maxRetries = idempotent ? resilienceProperties.getRetry().getMaxRetries() : 0;
+        return Mono.defer(() -> {
+            retryBudget.onRequest();
+            return attempt(endpoint, call)
+                    .retryWhen(errors -> retries(errors, maxRetries, () -> true));
+        });
+    }
+
+    public <T> Mono<T> hedged(String endpoint, Supplier<Mono<T>> call) {
+        if (!resilienceProperties.getHedge().isEnabled()) {
+            return mono(endpoint, true, call);
+        }
+        return Mono.defer(() -> {
+            retryBudget.onRequest();
+            return Mono.defer(() -> hedgedAttempt(endpoint, call))
+                    .retryWhen(errors -> retries(errors, resilienceProperties.getRetry().getMaxRetries(), () -> true));
+        });
+    }
+
+    /**
+     * Streams are only retried while nothing has been emitted, so callers never see duplicates.
+     */
+    public <T> Flux<T> flux(String endpoint, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            retryBudget.onRequest();
+            AtomicBoolean emitted = new AtomicBoolean();
+            return Flux.defer(() -> {
+                CircuitBreaker circuitBreaker = circuitBreaker(endpoint);
+                if (!circuitBreaker.tryAcquirePermission()) {
+                    return Flux.<T>error(new CircuitBreakerOpenException(endpoint));
+                }
+                return call.get()
+                        .timeout(resilienceProperties.getTimeout())
+                        .doOnNext(item -> emitted.set(true))
+                        .doOnComplete(circuitBreaker::onSuccess)
+                        .doOnError(error -> onError(circuitBreaker, error))
+                        .doOnCancel(circuitBreaker::onIgnore);
+            }).retryWhen(errors -> retries(errors, resilienceProperties.getRetry().getMaxRetries(), () -> !emitted.get()));
+        });
+    }
+
+    private <T> Mono<T> hedgedAttempt(String endpoint, Supplier<Mono<T>> call) {
+        long percentileNanos = latencyTracker(endpoint).getPercentileNanos();
+        if (percentileNanos == LatencyTracker.UNKNOWN) {
+            return attempt(endpoint, call);
+        }
+        Duration delay = Duration.ofNanos(Math.max(percentileNanos, resilienceProperties.getHedge().getMinDelay().toNanos()));
+        Mono<T> hedge = Mono.delay(delay)
+                .flatMap(tick -> circuitBreaker(endpoint).isClosed() && retryBudget.tryAcquire()
+                        ? attempt(endpoint, call).onErrorResume(error -> Mono.<T>never())
+                        : Mono.<T>never());
+        return Mono.first(attempt(endpoint, call), hedge);
+    }
+
+    private <T> Mono<T> attempt(String endpoint, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            CircuitBreaker circuitBreaker = circuitBreaker(endpoint);
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(new CircuitBreakerOpenException(endpoint));
+            }
+            long start = System.nanoTime();
+            return call.get()
+                    .timeout(resilienceProperties.getTimeout())
+                    .doOnSuccess(value -> {
+                        circuitBreaker.onSuccess();
+                        latencyTracker(endpoint).record(System.nanoTime() - start);
+                    })
+                    .doOnError(error -> onError(circuitBreaker, error))
+                    .doOnCancel(circuitBreaker::onIgnore);
+        });
+    }
+
+    private Flux<Long> retries(Flux<Throwable> errors, int maxRetries, BooleanSupplier allowed) {
+        return errors.index()
+                .concatMap(indexed -> {
+                    long attempt = indexed.getT1() + 1;
+                    Throwable error = indexed.getT2();
+                    if (attempt > maxRetries || !isFailure(error) || !allowed.getAsBoolean() || !retryBudget.tryAcquire()) {
+                        return Mono.error(error);
+                    }
+                    return Mono.delay(backoff(attempt));
+                });
+    }
+
+    /**
+     * Equal jitter: half of the exponential backoff is fixed, the other half random.
+     */
+    private Duration backoff(long attempt) {
+        long first = resilienceProperties.getRetry().getFirstBackoff().toMillis();
+        long max = resilienceProperties.getRetry().getMaxBackoff().toMillis();
+        long exponential = Math.min(max, first << Math.min(attempt - 1, 30));
+        long half = exponential / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private void onError(CircuitBreaker circuitBreaker, Throwable error) {
+        if (isFailure(error)) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    /**
+     * Timeouts, I/O errors and 5xx responses count against the circuit breaker and are worth retrying;
+     * 4xx responses mean the server is healthy.
+     */
+    private boolean isFailure(Throwable error) {
+        if (error instanceof TimeoutException || error instanceof IOException || error.getCause() instanceof IOException) {
+            return true;
+        }
+        return error instanceof WebClientResponseException
+                && ((WebClientResponseException) error).getStatusCode().is5xxServerError();
+    }
+
+    private CircuitBreaker circuitBreaker(String endpoint) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        if (circuitBreaker != null) {
+            return circuitBreaker;
+        }
+        return circuitBreakers.computeIfAbsent(endpoint, key -> new CircuitBreaker(
+                resilienceProperties.getCircuitBreaker().getWindowSize(),
+                resilienceProperties.getCircuitBreaker().getMinimumCalls(),
+                resilienceProperties.getCircuitBreaker().getFailureRateThreshold(),
+                resilienceProperties.getCircuitBreaker().getOpenDuration().toNanos()));
+    }
+
+    private LatencyTracker latencyTracker(String endpoint) {
+        LatencyTracker latencyTracker = latencyTrackers.get(endpoint);
+        if (latencyTracker != null) {
+            return latencyTracker;
+        }
+        return latencyTrackers.computeIfAbsent(endpoint,
+                key -> new LatencyTracker(LATENCY_SAMPLES, resilienceProperties.getHedge().getPercentile()));
+    }
+}
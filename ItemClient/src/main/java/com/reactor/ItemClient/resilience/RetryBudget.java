@@ -0,0 +1,38 @@
+package com.reactor.ItemClient.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps retries (and hedges) to a ratio of the requests sent, so an incident does not multiply the load on the
+ * server. Every request deposits {@code ratio} of a token, every retry withdraws a whole one.
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final AtomicLong balance;
+    private final long deposit;
+    private final long maxBalance;
+
+    public RetryBudget(double ratio, int minRetries) {
+        this.deposit = (long) (ratio * SCALE);
+        this.maxBalance = Math.max(minRetries, 1) * SCALE * 10;
+        this.balance = new AtomicLong(minRetries * SCALE);
+    }
+
+    public void onRequest() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(maxBalance, current + amount));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.reactor.ItemClient.rsocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reactor.ItemClient.domain.Item;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.RSocketFactory;
+import io.rsocket.transport.ClientTransport;
+import io.rsocket.transport.netty.client.TcpClientTransport;
+import io.rsocket.transport.netty.client.WebsocketClientTransport;
+import io.rsocket.util.DefaultPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Requester for the reactor RSocket interface. One connection is shared by all calls and opened on first use; once
+ * it closes or fails to open, the next call reconnects.
+ */
+@Component
+@Slf4j
+public class ItemRSocketClient {
+
+    private static final String ITEM_GET = "item.get";
+    private static final String ITEM_SAVE = "item.save";
+    private static final String ITEM_UPDATE = "item.update";
+    private static final String ITEM_DELETE = "item.delete";
+    private static final String ITEMS_LIST = "items.list";
+    private static final String ITEMS_FEED = "items.feed";
+
+    private final RSocketProperties rSocketProperties;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Mono<RSocket>> connection = new AtomicReference<>();
+
+    public ItemRSocketClient(RSocketProperties rSocketProperties, ObjectMapper objectMapper) {
+        this.rSocketProperties = rSocketProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    public Mono<Item> get(String id) {
+        return rSocket().flatMap(socket -> socket.requestResponse(DefaultPayload.create(id, ITEM_GET)))
+                .map(this::toItem);
+    }
+
+    public Mono<Item> save(Item item) {
+        return rSocket().flatMap(socket -> socket.requestResponse(DefaultPayload.create(write(item), ITEM_SAVE)))
+                .map(this::toItem);
+    }
+
+    public Mono<Item> update(String id, Item item) {
+        Item update = new Item(id, item.getDescription(), item.getPrice());
+        return rSocket().flatMap(socket -> socket.requestResponse(DefaultPayload.create(write(update), ITEM_UPDATE)))
+                .map(this::toItem);
+    }
+
+    public Mono<Void> delete(String id) {
+        return rSocket().flatMap(socket -> socket.requestResponse(DefaultPayload.create(id, ITEM_DELETE)))
+                .then();
+    }
+
+    public Flux<Item> list() {
+        return rSocket().flatMapMany(socket -> socket.requestStream(DefaultPayload.create("", ITEMS_LIST)))
+                .map(this::toItem);
+    }
+
+    public Flux<Item> feed() {
+        return rSocket().flatMapMany(socket -> socket.requestStream(DefaultPayload.create("", ITEMS_FEED)))
+                .map(this::toItem);
+    }
+
+    /**
+     * Items are pulled from {@code items} only as fast as reactor requests them.
+     */
+    public Flux<Item> ingest(Flux<Item> items) {
+        return rSocket().flatMapMany(socket -> socket.requestChannel(items.map(item -> DefaultPayload.create(write(item)))))
+                .map(this::toItem);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        Mono<RSocket> current = connection.getAndSet(null);
+        if (current != null) {
+            current.subscribe(RSocket::dispose, error -> {
+            });
+        }
+    }
+
+    private Mono<RSocket> rSocket() {
+        for (;;) {
+            Mono<RSocket> current = connection.get();
+            if (current != null) {
+                return current;
+            }
+            Mono<RSocket> created = RSocketFactory.connect()
+                    .transport(transport())
+                    .start()
+                    .cache();
+            if (connection.compareAndSet(null, created)) {
+                created.subscribe(socket -> socket.onClose()
+                                .doFinally(signal -> connection.compareAndSet(created, null))
+                                .subscribe(null, error -> log.warn("RSocket connection closed: {}", error.getMessage())),
+                        error -> connection.compareAndSet(created, null));
+                return created;
+            }
+        }
+    }
+
+    private ClientTransport transport() {
+        if (rSocketProperties.getTransport() == RSocketProperties.Transport.WEBSOCKET) {
+            return WebsocketClientTransport.create(rSocketProperties.getHost(), rSocketProperties.getPort());
+        }
+        return TcpClientTransport.create(rSocketProperties.getHost(), rSocketProperties.getPort());
+    }
+
+    private String write(Item item) {
+        try {
+            return objectMapper.writeValueAsString(item);
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private Item toItem(Payload payload) {
+        try {
+            return objectMapper.readValue(payload.getDataUtf8(), Item.class);
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.reactor.ItemClient.rsocket;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties("item-client.rsocket")
+@Data
+public class RSocketProperties {
+
+    public enum Transport {
+        TCP, WEBSOCKET
+    }
+
+    private Transport transport = Transport.TCP;
+    private String host = "localhost";
+    private int port = 7000;
+
+}
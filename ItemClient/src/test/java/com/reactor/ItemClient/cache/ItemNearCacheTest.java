@@ -0,0 +1,63 @@
+package com.reactor.ItemClient.cache;
+
+import com.reactor.ItemClient.domain.Item;
+import com.reactor.ItemClient.domain.ItemInvalidation;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ItemNearCacheTest {
+
+    private NearCacheProperties nearCacheProperties;
+    private ItemNearCache itemNearCache;
+    private AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        nearCacheProperties = new NearCacheProperties();
+        nearCacheProperties.setMaxSize(4);
+        itemNearCache = new ItemNearCache(WebClient.create(), nearCacheProperties);
+        itemNearCache.onInvalidation(new ItemInvalidation(null, ItemInvalidation.Type.HEARTBEAT));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void shouldKeepCachingPastMaxSize() {
+        for (int i = 0; i < 10; i++) {
+            get("id" + i);
+        }
+        Assert.assertEquals(4, itemNearCache.size());
+
+        get("id9");
+        get("id9");
+
+        Assert.assertEquals(10, loads.get());
+    }
+
+    @Test
+    public void shouldReloadAndCacheExpiredEntries() throws InterruptedException {
+        nearCacheProperties.setTimeToLive(Duration.ofMillis(20));
+        get("id");
+        Thread.sleep(50);
+        nearCacheProperties.setTimeToLive(Duration.ofSeconds(60));
+
+        get("id");
+        get("id");
+
+        Assert.assertEquals(2, loads.get());
+        Assert.assertEquals(1, itemNearCache.size());
+    }
+
+    private Item get(String id) {
+        return itemNearCache.get(id, () -> Mono.fromCallable(() -> {
+            loads.incrementAndGet();
+            return new Item(id, "Item " + id, BigDecimal.ONE);
+        })).block();
+    }
+}
@@ -0,0 +1,36 @@
+package com.reactor.ItemClient.resilience;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void shouldOpenWhenFailureRateIsReached() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(10, 4, 0.5, Long.MAX_VALUE);
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        circuitBreaker.onFailure();
+
+        Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        Assert.assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    public void shouldLetOneProbeThroughAfterOpenDuration() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, 1, 0.5, 0);
+        circuitBreaker.onFailure();
+
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        Assert.assertFalse(circuitBreaker.tryAcquirePermission());
+
+        circuitBreaker.onSuccess();
+
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+}
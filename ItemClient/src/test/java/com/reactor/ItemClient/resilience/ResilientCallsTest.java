@@ -0,0 +1,56 @@
+package com.reactor.ItemClient.resilience;
+
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResilientCallsTest {
+
+    @Test
+    public void shouldHedgeAfterPercentileDelay() {
+        ResilienceProperties resilienceProperties = new ResilienceProperties();
+        resilienceProperties.getHedge().setMinDelay(Duration.ofMillis(100));
+        ResilientCalls resilientCalls = new ResilientCalls(resilienceProperties);
+        for (int i = 0; i < 64; i++) {
+            resilientCalls.hedged("item", () -> Mono.just("warm")).block();
+        }
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+        StepVerifier.create(resilientCalls.hedged("item", () -> attempts.incrementAndGet() == 1
+                ? Mono.<String>never()
+                : Mono.just("hedge")))
+                .expectNext("hedge")
+                .verifyComplete();
+
+        Assert.assertEquals(2, attempts.get());
+        Assert.assertTrue(System.nanoTime() - start >= Duration.ofMillis(100).toNanos());
+    }
+
+    @Test
+    public void shouldRefuseRetriesOnceBudgetIsSpent() {
+        ResilienceProperties resilienceProperties = new ResilienceProperties();
+        resilienceProperties.getRetry().setBudgetRatio(0);
+        resilienceProperties.getRetry().setBudgetMinRetries(1);
+        resilienceProperties.getRetry().setFirstBackoff(Duration.ofMillis(1));
+        ResilientCalls resilientCalls = new ResilientCalls(resilienceProperties);
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(resilientCalls.mono("item", true, () -> {
+            attempts.incrementAndGet();
+            return Mono.<String>error(new TimeoutException());
+        })).verifyError(TimeoutException.class);
+        Assert.assertEquals(2, attempts.get());
+
+        StepVerifier.create(resilientCalls.mono("item", true, () -> {
+            attempts.incrementAndGet();
+            return Mono.<String>error(new TimeoutException());
+        })).verifyError(TimeoutException.class);
+        Assert.assertEquals(3, attempts.get());
+    }
+}
@@ -0,0 +1,20 @@
+package com.reactor.ItemClient.resilience;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RetryBudgetTest {
+
+    @Test
+    public void shouldLimitRetriesToBudget() {
+        RetryBudget retryBudget = new RetryBudget(0.5, 1);
+
+        Assert.assertTrue(retryBudget.tryAcquire());
+        Assert.assertFalse(retryBudget.tryAcquire());
+
+        retryBudget.onRequest();
+        Assert.assertFalse(retryBudget.tryAcquire());
+        retryBudget.onRequest();
+        Assert.assertTrue(retryBudget.tryAcquire());
+    }
+}
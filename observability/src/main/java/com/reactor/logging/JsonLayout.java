@@ -0,0 +1,58 @@
+package com.reactor.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * One JSON object per line: timestamp, level, logger, thread, message, MDC entries and the stack trace if any.
+ * Runs on the async appender's worker, so formatting cost stays off the request threads.
+ */
+public class JsonLayout extends LayoutBase<ILoggingEvent> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private String service;
+
+    public void setService(String service) {
+        this.service = service;
+    }
+
+    @Override
+    public String doLayout(ILoggingEvent event) {
+        StringWriter writer = new StringWriter(256);
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(writer)) {
+            json.writeStartObject();
+            json.writeStringField("timestamp", Instant.ofEpochMilli(event.getTimeStamp()).toString());
+            if (service != null && !service.isEmpty()) {
+                json.writeStringField("service", service);
+            }
+            json.writeStringField("level", event.getLevel().toString());
+            json.writeStringField("logger", event.getLoggerName());
+            json.writeStringField("thread", event.getThreadName());
+            json.writeStringField("message", event.getFormattedMessage());
+            Map<String, String> mdc = event.getMDCPropertyMap();
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                json.writeStringField(entry.getKey(), entry.getValue());
+            }
+            IThrowableProxy throwable = event.getThrowableProxy();
+            if (throwable != null) {
+                json.writeStringField("exception", throwable.getClassName());
+                json.writeStringField("stackTrace", ThrowableProxyUtil.asString(throwable));
+            }
+            json.writeEndObject();
+        } catch (IOException e) {
+            return event.getFormattedMessage() + CoreConstants.LINE_SEPARATOR;
+        }
+        return writer.append(CoreConstants.LINE_SEPARATOR).toString();
+    }
+}
@@ -0,0 +1,115 @@
+package com.reactor.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Replaces {@code .log()} on routes: signals are logged only while the route is enabled, each route to its own
+ * {@code reactor.signal.<route>} logger, with onNext sampled. A disabled route returns the publisher untouched.
+ * Only the routes the application declares can be enabled, so the set of loggers stays bounded.
+ */
+@Slf4j
+public class SignalLogging {
+
+    private static final String LOGGER_PREFIX = "reactor.signal.";
+
+    private final SignalLoggingProperties signalLoggingProperties;
+    private final Set<String> knownRoutes;
+    private final Map<String, RouteLog> enabled = new ConcurrentHashMap<>();
+
+    public SignalLogging(SignalLoggingProperties signalLoggingProperties, Collection<String> knownRoutes) {
+        this.signalLoggingProperties = signalLoggingProperties;
+        this.knownRoutes = Collections.unmodifiableSet(new LinkedHashSet<>(knownRoutes));
+        signalLoggingProperties.getRoutes().forEach(route -> {
+            if (!enable(route, null)) {
+                log.warn("Ignoring signal logging for unknown route {}, known routes are {}", route, this.knownRoutes);
+            }
+        });
+    }
+
+    public <T> Flux<T> flux(String route, Flux<T> source) {
+        RouteLog routeLog = enabled.get(route);
+        if (routeLog == null) {
+            return source;
+        }
+        return source.doOnSubscribe(subscription -> routeLog.logger.info("onSubscribe()"))
+                .doOnEach(routeLog::signal)
+                .doOnCancel(() -> routeLog.logger.info("cancel()"));
+    }
+
+    public <T> Mono<T> mono(String route, Mono<T> source) {
+        RouteLog routeLog = enabled.get(route);
+        if (routeLog == null) {
+            return source;
+        }
+        return source.doOnSubscribe(subscription -> routeLog.logger.info("onSubscribe()"))
+                .doOnEach(routeLog::signal)
+                .doOnCancel(() -> routeLog.logger.info("cancel()"));
+    }
+
+    /**
+     * @return false, leaving logging unchanged, when {@code route} is not a known route
+     */
+    public boolean enable(String route, Double sampleRatio) {
+        if (!knownRoutes.contains(route)) {
+            return false;
+        }
+        double ratio = sampleRatio != null ? sampleRatio
+                : signalLoggingProperties.getSampleRatios().getOrDefault(route, signalLoggingProperties.getDefaultSampleRatio());
+        enabled.put(route, new RouteLog(LoggerFactory.getLogger(LOGGER_PREFIX + route), ratio));
+        return true;
+    }
+
+    public boolean disable(String route) {
+        return enabled.remove(route) != null;
+    }
+
+    public Set<String> getKnownRoutes() {
+        return knownRoutes;
+    }
+
+    public Map<String, Double> getEnabledRoutes() {
+        Map<String, Double> routes = new TreeMap<>();
+        enabled.forEach((route, routeLog) -> routes.put(route, routeLog.sampleRatio));
+        return routes;
+    }
+
+    private static final class RouteLog {
+
+        private final Logger logger;
+        private final double sampleRatio;
+
+        private RouteLog(Logger logger, double sampleRatio) {
+            this.logger = logger;
+            this.sampleRatio = sampleRatio;
+        }
+
+        private void signal(Signal<?> signal) {
+            if (!logger.isInfoEnabled()) {
+                return;
+            }
+            if (signal.isOnNext()) {
+                if (sampleRatio >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRatio) {
+                    logger.info("onNext({})", signal.get());
+                }
+            } else if (signal.isOnError()) {
+                logger.warn("onError({})", signal.getThrowable().toString());
+            } else if (signal.isOnComplete()) {
+                logger.info("onComplete()");
+            }
+        }
+    }
+}
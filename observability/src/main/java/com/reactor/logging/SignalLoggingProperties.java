@@ -0,0 +1,24 @@
+package com.reactor.logging;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Operator-level signal logging, off for every route unless listed. Bound by each application under its own prefix,
+ * {@code item.logging.signals} or {@code item-client.logging.signals}; routes can also be switched at runtime.
+ */
+@Data
+public class SignalLoggingProperties {
+
+    private Set<String> routes = new HashSet<>();
+    /**
+     * Share of onNext signals logged; subscribe, cancel and terminal signals are always logged.
+     */
+    private double defaultSampleRatio = 1.0;
+    private Map<String, Double> sampleRatios = new HashMap<>();
+
+}
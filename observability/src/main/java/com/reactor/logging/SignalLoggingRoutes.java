@@ -0,0 +1,65 @@
+package com.reactor.logging;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.DELETE;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.PUT;
+
+/**
+ * Admin routes switching signal logging per route at runtime, under the base path each application registers them
+ * with; changes take effect for requests arriving afterwards. Unknown routes answer 404 and sample ratios outside
+ * [0, 1] answer 400.
+ */
+public final class SignalLoggingRoutes {
+
+    private SignalLoggingRoutes() {
+    }
+
+    public static RouterFunction<ServerResponse> of(String basePath, SignalLogging signalLogging) {
+        return RouterFunctions
+                .route(GET(basePath), request -> enabledRoutes(signalLogging))
+                .andRoute(PUT(basePath + "/{route}"), request -> enable(request, signalLogging))
+                .andRoute(DELETE(basePath + "/{route}"), request -> signalLogging.disable(request.pathVariable("route"))
+                        ? ServerResponse.noContent().build()
+                        : ServerResponse.notFound().build());
+    }
+
+    private static Mono<ServerResponse> enabledRoutes(SignalLogging signalLogging) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromObject(signalLogging.getEnabledRoutes()));
+    }
+
+    private static Mono<ServerResponse> enable(ServerRequest request, SignalLogging signalLogging) {
+        Double sampleRatio = sampleRatio(request.queryParam("sampleRatio"));
+        return signalLogging.enable(request.pathVariable("route"), sampleRatio)
+                ? enabledRoutes(signalLogging)
+                : ServerResponse.notFound().build();
+    }
+
+    private static Double sampleRatio(Optional<String> value) {
+        if (!value.isPresent()) {
+            return null;
+        }
+        double sampleRatio;
+        try {
+            sampleRatio = Double.parseDouble(value.get());
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("sampleRatio must be a number");
+        }
+        if (sampleRatio < 0 || sampleRatio > 1) {
+            throw new ServerWebInputException("sampleRatio must be between 0 and 1");
+        }
+        return sampleRatio;
+    }
+}
@@ -0,0 +1,31 @@
+package com.reactor.tracing;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Posts each batch as a JSON array to a collector endpoint.
+ */
+public class HttpSpanSink implements SpanSink {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public HttpSpanSink(WebClient webClient, Duration timeout) {
+        this.webClient = webClient;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void export(List<Span> spans) {
+        webClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .syncBody(spans)
+                .retrieve()
+                .bodyToMono(Void.class)
+                .block(timeout);
+    }
+}
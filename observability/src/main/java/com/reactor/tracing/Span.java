@@ -0,0 +1,29 @@
+package com.reactor.tracing;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+public class Span {
+
+    public enum Kind {
+        SERVER, CLIENT, INTERNAL
+    }
+
+    private String traceId;
+    private String spanId;
+    private String parentSpanId;
+    private String service;
+    private String name;
+    private Kind kind;
+    private long startEpochMicros;
+    private long durationMicros;
+    private boolean error;
+    private Map<String, String> attributes = new LinkedHashMap<>();
+    @JsonIgnore
+    private long startNanos;
+
+}
@@ -0,0 +1,33 @@
+package com.reactor.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Destination of finished spans, called with batches from a single exporter thread.
+ */
+public interface SpanSink {
+
+    void export(List<Span> spans) throws Exception;
+
+    /**
+     * The sink selected by {@link TracingProperties#getSink()}.
+     */
+    static SpanSink of(TracingProperties tracingProperties, ObjectMapper objectMapper,
+                       WebClient.Builder webClientBuilder) {
+        switch (tracingProperties.getSink()) {
+            case FILE:
+                return new FileSpanSink(Paths.get(tracingProperties.getFile()), objectMapper);
+            case HTTP:
+                return new HttpSpanSink(webClientBuilder.baseUrl(tracingProperties.getEndpoint()).build(),
+                        tracingProperties.getExportTimeout());
+            default:
+                return spans -> {
+                };
+        }
+    }
+
+}
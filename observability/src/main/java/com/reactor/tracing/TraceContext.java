@@ -0,0 +1,49 @@
+package com.reactor.tracing;
+
+import lombok.Value;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C trace context, carried in the {@code traceparent} header and in the Reactor subscriber context under this
+ * class as key.
+ */
+@Value
+public class TraceContext {
+
+    public static final String HEADER = "traceparent";
+
+    String traceId;
+    String spanId;
+    boolean sampled;
+
+    public static TraceContext root(boolean sampled) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new TraceContext(hex(random.nextLong()) + hex(random.nextLong()), hex(random.nextLong()), sampled);
+    }
+
+    public TraceContext child() {
+        return new TraceContext(traceId, hex(ThreadLocalRandom.current().nextLong()), sampled);
+    }
+
+    /**
+     * Null when the header is absent or malformed, in which case a new trace is started.
+     */
+    public static TraceContext parse(String traceparent) {
+        if (traceparent == null || traceparent.length() != 55 || traceparent.charAt(2) != '-'
+                || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-') {
+            return null;
+        }
+        return new TraceContext(traceparent.substring(3, 35), traceparent.substring(36, 52),
+                (Character.digit(traceparent.charAt(54), 16) & 1) == 1);
+    }
+
+    public String traceparent() {
+        return "00-" + traceId + "-" + spanId + (sampled ? "-01" : "-00");
+    }
+
+    private static String hex(long value) {
+        String hex = Long.toHexString(value);
+        return hex.length() == 16 ? hex : "0000000000000000".substring(hex.length()) + hex;
+    }
+}
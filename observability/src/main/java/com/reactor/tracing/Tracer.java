@@ -0,0 +1,157 @@
+package com.reactor.tracing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Records spans and hands them to the {@link SpanSink} in batches. Spans are only built for sampled traces;
+ * unsampled ones still propagate their context. Exports run on the given scheduler, or on a single daemon thread
+ * owned by the tracer. Sinks may block, so that thread is a plain executor thread: Reactor's own single and parallel
+ * schedulers refuse {@code block()}.
+ */
+@Slf4j
+public class Tracer implements DisposableBean {
+
+    public static final String EXPORT_WORKLOAD = "tracing-export";
+
+    private final TracingProperties tracingProperties;
+    private final SpanSink spanSink;
+    private final BlockingQueue<Span> finished;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Scheduler ownedScheduler;
+    private final Disposable exporter;
+
+    public Tracer(TracingProperties tracingProperties, SpanSink spanSink) {
+        this(tracingProperties, spanSink, newExportScheduler(), true);
+    }
+
+    public Tracer(TracingProperties tracingProperties, SpanSink spanSink, Scheduler timer, Scheduler exportScheduler) {
+        this(tracingProperties, spanSink, timer, exportScheduler, false);
+    }
+
+    private Tracer(TracingProperties tracingProperties, SpanSink spanSink, Scheduler exportScheduler, boolean owned) {
+        this(tracingProperties, spanSink, exportScheduler, exportScheduler, owned);
+    }
+
+    private Tracer(TracingProperties tracingProperties, SpanSink spanSink, Scheduler timer, Scheduler exportScheduler,
+                   boolean owned) {
+        this.tracingProperties = tracingProperties;
+        this.spanSink = spanSink;
+        this.finished = new ArrayBlockingQueue<>(tracingProperties.getQueueCapacity());
+        this.ownedScheduler = owned ? exportScheduler : null;
+        this.exporter = Flux.interval(tracingProperties.getFlushInterval(), timer)
+                .onBackpressureDrop()
+                .concatMap(tick -> Mono.fromRunnable(this::flush).subscribeOn(exportScheduler), 1)
+                .subscribe();
+    }
+
+    public TraceContext newTrace() {
+        return TraceContext.root(ThreadLocalRandom.current().nextDouble() < tracingProperties.getSampleRatio());
+    }
+
+    public Span start(String name, Span.Kind kind, TraceContext context, String parentSpanId) {
+        if (!context.isSampled()) {
+            return null;
+        }
+        Span span = new Span();
+        span.setTraceId(context.getTraceId());
+        span.setSpanId(context.getSpanId());
+        span.setParentSpanId(parentSpanId);
+        span.setService(tracingProperties.getService());
+        span.setName(name);
+        span.setKind(kind);
+        span.setStartEpochMicros(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+        span.setStartNanos(System.nanoTime());
+        return span;
+    }
+
+    public void finish(Span span, boolean error) {
+        if (span == null) {
+            return;
+        }
+        span.setDurationMicros(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - span.getStartNanos()));
+        span.setError(error);
+        if (!finished.offer(span)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Runs {@code call} as a client span of the trace in the subscriber context, passing it the child's traceparent.
+     * Without a trace in the context the call runs untraced and receives null.
+     */
+    public <T> Mono<T> mono(String name, Function<String, Mono<T>> call) {
+        return Mono.subscriberContext().flatMap(context -> {
+            TraceContext parent = context.getOrDefault(TraceContext.class, null);
+            if (parent == null || !tracingProperties.isEnabled()) {
+                return call.apply(null);
+            }
+            TraceContext child = parent.child();
+            Span span = start(name, Span.Kind.CLIENT, child, parent.getSpanId());
+            return call.apply(child.traceparent())
+                    .doFinally(signal -> finish(span, signal == SignalType.ON_ERROR));
+        });
+    }
+
+    public <T> Flux<T> flux(String name, Function<String, Flux<T>> call) {
+        return Mono.subscriberContext().flatMapMany(context -> {
+            TraceContext parent = context.getOrDefault(TraceContext.class, null);
+            if (parent == null || !tracingProperties.isEnabled()) {
+                return call.apply(null);
+            }
+            TraceContext child = parent.child();
+            Span span = start(name, Span.Kind.CLIENT, child, parent.getSpanId());
+            return call.apply(child.traceparent())
+                    .doFinally(signal -> finish(span, signal == SignalType.ON_ERROR));
+        });
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void destroy() {
+        exporter.dispose();
+        flush();
+        if (ownedScheduler != null) {
+            ownedScheduler.dispose();
+        }
+    }
+
+    private static Scheduler newExportScheduler() {
+        return Schedulers.fromExecutorService(Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, EXPORT_WORKLOAD);
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    private void flush() {
+        List<Span> batch = new ArrayList<>();
+        while (finished.drainTo(batch, 512) > 0) {
+            try {
+                spanSink.export(batch);
+            } catch (Exception e) {
+                log.warn("Dropping {} spans, export failed: {}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.reactor.tracing;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records each outgoing call as a client span and sends its traceparent, so reactor continues the same trace.
+ * Hedged and retried attempts each get their own span.
+ */
+public class TracingExchangeFilter implements ExchangeFilterFunction {
+
+    private final Tracer tracer;
+
+    public TracingExchangeFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return tracer.mono(request.method() + " " + request.url().getPath(), traceparent -> traceparent == null
+                ? next.exchange(request)
+                : next.exchange(ClientRequest.from(request).header(TraceContext.HEADER, traceparent).build()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.reactor.tracing;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Bound by each application under its own prefix, {@code item.tracing} or {@code item-client.tracing}.
+ */
+@Data
+public class TracingProperties {
+
+    public enum Sink {
+        NONE, FILE, HTTP
+    }
+
+    private boolean enabled = true;
+    private String service = "unknown";
+    /**
+     * Share of new traces recorded; an incoming sampled flag is always honoured.
+     */
+    private double sampleRatio = 0.1;
+    private Sink sink = Sink.NONE;
+    private String file = "spans.jsonl";
+    private String endpoint = "http://localhost:4318/v1/spans";
+    private Duration exportTimeout = Duration.ofSeconds(2);
+    private Duration flushInterval = Duration.ofSeconds(1);
+    /**
+     * Finished spans waiting for export; spans over this are dropped.
+     */
+    private int queueCapacity = 4096;
+
+}
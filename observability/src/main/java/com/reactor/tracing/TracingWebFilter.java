@@ -0,0 +1,64 @@
+package com.reactor.tracing;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Continues the caller's trace, or starts one, for every request and exposes it to the handlers through the Reactor
+ * subscriber context. The trace id is echoed in {@code X-Trace-Id}.
+ */
+public class TracingWebFilter implements WebFilter, Ordered {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final Tracer tracer;
+    private final TracingProperties tracingProperties;
+    private final int order;
+
+    /**
+     * @param order where the filter runs; before anything that may reject the request, so rejections are traced
+     */
+    public TracingWebFilter(Tracer tracer, TracingProperties tracingProperties, int order) {
+        this.tracer = tracer;
+        this.tracingProperties = tracingProperties;
+        this.order = order;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!tracingProperties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        TraceContext parent = TraceContext.parse(request.getHeaders().getFirst(TraceContext.HEADER));
+        TraceContext context = parent != null ? parent.child() : tracer.newTrace();
+        Span span = tracer.start(request.getMethodValue() + " " + request.getPath().value(), Span.Kind.SERVER,
+                context, parent != null ? parent.getSpanId() : null);
+        exchange.getResponse().getHeaders().set(TRACE_ID_HEADER, context.getTraceId());
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (span != null) {
+                        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                        if (pattern != null) {
+                            span.setName(request.getMethodValue() + " " + pattern);
+                        }
+                        HttpStatus status = exchange.getResponse().getStatusCode();
+                        span.getAttributes().put("http.status", status != null ? String.valueOf(status.value()) : "200");
+                        tracer.finish(span, signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError()));
+                    }
+                })
+                .subscriberContext(reactorContext -> reactorContext.put(TraceContext.class, context));
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
@@ -0,0 +1,88 @@
+package com.reactor.logging;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Arrays;
+
+public class SignalLoggingRoutesTest {
+
+    private static final String BASE_PATH = "/client/admin/logging/signals";
+
+    private WebTestClient webTestClient;
+
+    @Before
+    public void setUp() {
+        SignalLogging signalLogging = new SignalLogging(new SignalLoggingProperties(), Arrays.asList("items", "item"));
+        webTestClient = WebTestClient.bindToRouterFunction(SignalLoggingRoutes.of(BASE_PATH, signalLogging)).build();
+    }
+
+    @Test
+    public void shouldEnableAndDisableRoutesUnderTheBasePath() {
+        webTestClient.put()
+                .uri(BASE_PATH + "/items?sampleRatio=0.25")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items").isEqualTo(0.25)
+                .jsonPath("$.item").doesNotExist();
+
+        webTestClient.get()
+                .uri(BASE_PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items").isEqualTo(0.25);
+
+        webTestClient.delete()
+                .uri(BASE_PATH + "/items")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.delete()
+                .uri(BASE_PATH + "/items")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.get()
+                .uri(BASE_PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .json("{}");
+    }
+
+    @Test
+    public void shouldRefuseUnknownRoutesAndInvalidRatios() {
+        webTestClient.put()
+                .uri(BASE_PATH + "/not-a-route")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.put()
+                .uri(BASE_PATH + "/items?sampleRatio=2")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.put()
+                .uri(BASE_PATH + "/items?sampleRatio=half")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.get()
+                .uri(BASE_PATH)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .json("{}");
+    }
+
+    @Test
+    public void shouldNotAnswerOutsideTheBasePath() {
+        webTestClient.get()
+                .uri("/v1/admin/logging/signals")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,60 @@
+package com.reactor.tracing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class TracerTest {
+
+    private final BlockingQueue<String> batches = new LinkedBlockingQueue<>();
+    private DisposableServer collector;
+    private Tracer tracer;
+
+    @Before
+    public void setUp() {
+        collector = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.post("/v1/spans", (request, response) -> request.receive()
+                        .aggregate()
+                        .asString()
+                        .doOnNext(batches::add)
+                        .then()))
+                .bindNow();
+    }
+
+    @After
+    public void tearDown() {
+        if (tracer != null) {
+            tracer.destroy();
+        }
+        collector.disposeNow();
+    }
+
+    @Test
+    public void shouldExportThroughHttpSinkOnOwnedThread() throws InterruptedException {
+        TracingProperties tracingProperties = new TracingProperties();
+        tracingProperties.setFlushInterval(Duration.ofMillis(50));
+        tracer = new Tracer(tracingProperties, new HttpSpanSink(
+                WebClient.create("http://localhost:" + collector.port() + "/v1/spans"), Duration.ofSeconds(2)));
+        Span span = tracer.start("export", Span.Kind.SERVER, TraceContext.root(true), null);
+
+        tracer.finish(span, false);
+
+        String batch = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull("No batch reached the collector", batch);
+        assertTrue(batch.contains(span.getSpanId()));
+        assertEquals(0, tracer.getDropped());
+    }
+}
@@ -0,0 +1,76 @@
+package com.reactor.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batches of concurrent blocking calls offloaded to each kind of workload scheduler.
+ * ELASTIC is Reactor's unbounded elastic scheduler, the usual default for blocking work on Reactor 3.2.
+ * VIRTUAL fails when the benchmark JVM has no virtual threads; fork a JDK 21+ with {@code -PbenchJavaHome}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class BlockingWorkloadBenchmark {
+
+    @Param({"BOUNDED", "ELASTIC", "VIRTUAL"})
+    public String scheduler;
+
+    @Param({"50", "500"})
+    public int concurrency;
+
+    @Param({"10"})
+    public long blockingMillis;
+
+    private Scheduler workloadScheduler;
+
+    @Setup
+    public void setUp() {
+        if (scheduler.equals("ELASTIC")) {
+            workloadScheduler = Schedulers.newElastic("benchmark-elastic", 60, true);
+            return;
+        }
+        SchedulerProperties.Workload workload = new SchedulerProperties.Workload();
+        workload.setMode(WorkloadMode.valueOf(scheduler));
+        workload.setThreads(64);
+        workload.setQueueCapacity(10000);
+        workloadScheduler = WorkloadSchedulers.create("benchmark", workload);
+    }
+
+    @TearDown
+    public void tearDown() {
+        workloadScheduler.dispose();
+    }
+
+    @Benchmark
+    public Long blockingCalls() {
+        return Flux.range(0, concurrency)
+                .flatMap(i -> Mono.fromCallable(this::blockingCall).subscribeOn(workloadScheduler), concurrency)
+                .count()
+                .block();
+    }
+
+    private Long blockingCall() throws InterruptedException {
+        Thread.sleep(blockingMillis);
+        return blockingMillis;
+    }
+}
@@ -0,0 +1,160 @@
+package com.reactor.service;
+
+import com.reactor.document.Item;
+import com.reactor.invalidation.ItemInvalidationPublisher;
+import com.reactor.lifecycle.GracefulDrain;
+import com.reactor.lifecycle.LifecycleProperties;
+import com.reactor.repository.ItemReactiveRepository;
+import com.reactor.scheduler.ItemSchedulers;
+import com.reactor.scheduler.SchedulerProperties;
+import com.reactor.tracing.TraceContext;
+import com.reactor.tracing.Tracer;
+import com.reactor.tracing.TracingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Per-request allocation of the functional handler pipelines before and after they moved onto {@link ItemService}.
+ * The service variants call the real {@link ItemService}, with its tracing, drain tracking and invalidations, inside
+ * the unsampled trace context most requests carry. Mongo is stood in by proxies answering with completed monos, so
+ * only assembly and signalling are measured; compare {@code gc.alloc.rate.norm} between the legacy and service
+ * variants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemPipelineBenchmark {
+
+    private final Item item = new Item("Id", "Samsung TV", new BigDecimal("400.0"));
+    private final Context traced = Context.of(TraceContext.class, TraceContext.root(false));
+
+    private ItemReactiveRepository itemReactiveRepository;
+    private ItemSchedulers itemSchedulers;
+    private Tracer tracer;
+    private ItemService itemService;
+
+    @Setup
+    public void setUp() {
+        itemReactiveRepository = stub(ItemReactiveRepository.class, (method, args) -> {
+            switch (method) {
+                case "findById":
+                    return Mono.just(copy());
+                case "save":
+                    return Mono.just(args[0]);
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+        ReactiveMongoOperations reactiveMongoOperations = stub(ReactiveMongoOperations.class, (method, args) -> {
+            switch (method) {
+                case "findOne":
+                case "findAndModify":
+                    return Mono.just(copy());
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+        itemSchedulers = new ItemSchedulers(new SchedulerProperties());
+        tracer = new Tracer(new TracingProperties(), spans -> {
+        });
+        itemService = new ItemService(itemReactiveRepository,
+                reactiveMongoOperations,
+                new ItemInvalidationPublisher(Duration.ofSeconds(5)),
+                tracer,
+                new GracefulDrain(new LifecycleProperties(), itemSchedulers));
+    }
+
+    @TearDown
+    public void tearDown() {
+        tracer.destroy();
+        itemSchedulers.destroy();
+    }
+
+    @Benchmark
+    public void legacyGetOne(Blackhole blackhole) {
+        Stream.of("Id")
+                .map(itemReactiveRepository::findById)
+                .map(itemMono -> itemMono.flatMap(this::ok)
+                        .switchIfEmpty(ServerResponse.noContent().build()))
+                .findFirst()
+                .orElseGet(() -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).build())
+                .subscriberContext(traced)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void serviceGetOne(Blackhole blackhole) {
+        itemService.findById("Id")
+                .flatMap(this::ok)
+                .switchIfEmpty(ServerResponse.noContent().build())
+                .subscriberContext(traced)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void legacyUpdate(Blackhole blackhole) {
+        Mono.just(item)
+                .flatMap(update -> itemReactiveRepository.findById("Id")
+                        .flatMap(currentItem -> {
+                            currentItem.setPrice(update.getPrice());
+                            currentItem.setDescription(update.getDescription());
+                            return itemReactiveRepository.save(currentItem);
+                        }))
+                .flatMap(this::ok)
+                .subscriberContext(traced)
+                .subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void serviceUpdate(Blackhole blackhole) {
+        Mono.just(item)
+                .flatMap(update -> itemService.update("Id", update))
+                .flatMap(this::ok)
+                .switchIfEmpty(ServerResponse.noContent().build())
+                .subscriberContext(traced)
+                .subscribe(blackhole::consume);
+    }
+
+    private Item copy() {
+        return new Item(item.getId(), item.getDescription(), item.getPrice());
+    }
+
+    private Mono<ServerResponse> ok(Item item) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromObject(item));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, BiFunction<String, Object[], Object> answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> answer.apply(method.getName(), args));
+    }
+}
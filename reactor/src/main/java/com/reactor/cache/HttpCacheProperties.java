@@ -0,0 +1,45 @@
+package com.reactor.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache-Control per route, keyed by route name (e.g. {@code items}, {@code item}).
+ * Routes without an entry are sent with {@code no-cache}, so clients always revalidate (through the ETag on routes
+ * that have one).
+ */
+@Component
+@ConfigurationProperties("item.http-cache")
+@Data
+public class HttpCacheProperties {
+
+    private Map<String, Route> routes = new HashMap<>();
+
+    public CacheControl cacheControl(String route) {
+        Route config = routes.get(route);
+        if (config == null || config.getMaxAge() == null) {
+            return CacheControl.noCache();
+        }
+        CacheControl cacheControl = CacheControl.maxAge(config.getMaxAge().getSeconds(), TimeUnit.SECONDS);
+        if (config.getSharedMaxAge() != null) {
+            cacheControl = cacheControl.sMaxAge(config.getSharedMaxAge().getSeconds(), TimeUnit.SECONDS);
+        }
+        return config.isCachePrivate() ? cacheControl.cachePrivate() : cacheControl.cachePublic();
+    }
+
+    @Data
+    public static class Route {
+
+        private Duration maxAge;
+        private Duration sharedMaxAge;
+        private boolean cachePrivate;
+
+    }
+}
@@ -0,0 +1,58 @@
+package com.reactor.cache;
+
+import com.reactor.document.Item;
+
+import java.util.List;
+
+/**
+ * Strong ETags for single item representations, computed with a 64-bit FNV-1a hash over the serialized fields.
+ */
+public final class ItemETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ItemETags() {
+    }
+
+    public static String of(Item item) {
+        return format(hash(FNV_OFFSET_BASIS, item));
+    }
+
+    /**
+     * Weak comparison as required for If-None-Match: {@code W/} prefixes are ignored and {@code *} matches anything.
+     */
+    public static boolean matches(List<String> ifNoneMatch, String eTag) {
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(",")) {
+                String value = candidate.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals("*") || value.equals(eTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long hash(long hash, Item item) {
+        hash = hash(hash, item.getId());
+        hash = hash(hash, item.getDescription());
+        return hash(hash, item.getPrice() == null ? null : item.getPrice().toString());
+    }
+
+    private static long hash(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+            }
+        }
+        return (hash ^ 0x1f) * FNV_PRIME;
+    }
+
+    private static String format(long hash) {
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+}
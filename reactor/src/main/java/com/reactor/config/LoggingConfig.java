@@ -0,0 +1,35 @@
+package com.reactor.config;
+
+import com.reactor.controller.MonoAndFluxController;
+import com.reactor.logging.SignalLogging;
+import com.reactor.logging.SignalLoggingProperties;
+import com.reactor.logging.SignalLoggingRoutes;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Wires the shared signal logging under {@code item.logging.signals},
+ * with its admin routes at {@code /v1/admin/logging/signals}.
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    @ConfigurationProperties("item.logging.signals")
+    public SignalLoggingProperties signalLoggingProperties() {
+        return new SignalLoggingProperties();
+    }
+
+    @Bean
+    public SignalLogging signalLogging(SignalLoggingProperties signalLoggingProperties) {
+        return new SignalLogging(signalLoggingProperties, MonoAndFluxController.SIGNAL_ROUTES);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> signalLoggingRoutes(SignalLogging signalLogging) {
+        return SignalLoggingRoutes.of("/v1/admin/logging/signals", signalLogging);
+    }
+}
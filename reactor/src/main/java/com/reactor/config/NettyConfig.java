@@ -0,0 +1,139 @@
+package com.reactor.config;
+
+import com.reactor.filter.RouteMatcher;
+import com.reactor.scheduler.SchedulerProperties;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.epoll.Epoll;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerInitializedEvent;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.reactive.ReactorResourceFactory;
+import reactor.netty.resources.LoopResources;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@Slf4j
+public class NettyConfig {
+
+    private final NettyProperties nettyProperties;
+    private final SchedulerProperties schedulerProperties;
+    private final RouteMatcher streamingRoutes;
+
+    public NettyConfig(NettyProperties nettyProperties, SchedulerProperties schedulerProperties) {
+        this.nettyProperties = nettyProperties;
+        this.schedulerProperties = schedulerProperties;
+        this.streamingRoutes = new RouteMatcher(nettyProperties.getStreamingRoutes());
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> nettyServerCustomizer(ReactorResourceFactory reactorResourceFactory) {
+        ByteBufAllocator allocator = allocator();
+        long idleMillis = nettyProperties.getIdleTimeout().toMillis();
+        return factory -> factory.addServerCustomizers(httpServer -> httpServer
+                .httpRequestDecoder(decoder -> decoder
+                        .maxHeaderSize(nettyProperties.getMaxHeaderSize())
+                        .maxInitialLineLength(nettyProperties.getMaxInitialLineLength()))
+                .tcpConfiguration(tcpServer -> tcpServer
+                        .runOn(reactorResourceFactory.getLoopResources(), nettyProperties.isNativeTransport())
+                        .selectorOption(ChannelOption.SO_BACKLOG, nettyProperties.getSoBacklog())
+                        .selectorOption(ChannelOption.ALLOCATOR, allocator)
+                        .option(ChannelOption.ALLOCATOR, allocator)
+                        .option(ChannelOption.TCP_NODELAY, nettyProperties.isTcpNoDelay())
+                        .doOnConnection(connection -> {
+                            if (idleMillis > 0) {
+                                connection.addHandlerLast("idleState",
+                                        new IdleStateHandler(0, 0, idleMillis, TimeUnit.MILLISECONDS))
+                                        .addHandlerLast("idleClose", new IdleCloseHandler(streamingRoutes));
+                            }
+                        })));
+    }
+
+    @EventListener
+    public void reportEffectiveSettings(ReactiveWebServerInitializedEvent event) {
+        int eventLoopThreads = schedulerProperties.getEventLoopThreads() > 0
+                ? schedulerProperties.getEventLoopThreads()
+                : LoopResources.DEFAULT_IO_WORKER_COUNT;
+        log.info("Netty server on port {}: eventLoopThreads={}, transport={}, allocator={}, directBuffers={}, "
+                        + "tcpNoDelay={}, soBacklog={}, idleTimeout={}, maxHeaderSize={}, maxInitialLineLength={}",
+                event.getWebServer().getPort(),
+                eventLoopThreads,
+                nettyProperties.isNativeTransport() && Epoll.isAvailable() ? "epoll" : "nio",
+                nettyProperties.isPooledAllocator() ? "pooled" : "unpooled",
+                nettyProperties.isDirectBuffers(),
+                nettyProperties.isTcpNoDelay(),
+                nettyProperties.getSoBacklog(),
+                nettyProperties.getIdleTimeout(),
+                nettyProperties.getMaxHeaderSize(),
+                nettyProperties.getMaxInitialLineLength());
+        if (nettyProperties.isNativeTransport() && !Epoll.isAvailable()) {
+            log.info("Native epoll transport unavailable: {}", String.valueOf(Epoll.unavailabilityCause()));
+        }
+    }
+
+    private ByteBufAllocator allocator() {
+        if (!nettyProperties.isPooledAllocator()) {
+            return new UnpooledByteBufAllocator(nettyProperties.isDirectBuffers());
+        }
+        // The default pool is shared with the WebClient; a second pool would duplicate its arenas
+        return nettyProperties.isDirectBuffers() ? PooledByteBufAllocator.DEFAULT : new PooledByteBufAllocator(false);
+    }
+
+    /**
+     * Closes idle connections, except while answering one of the streaming routes: a quiet feed is still a live
+     * response, so the connection is kept until that response ends.
+     */
+    private static class IdleCloseHandler extends ChannelDuplexHandler {
+
+        private final RouteMatcher streamingRoutes;
+        private boolean streaming;
+
+        IdleCloseHandler(RouteMatcher streamingRoutes) {
+            this.streamingRoutes = streamingRoutes;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            if (msg instanceof HttpRequest) {
+                HttpRequest request = (HttpRequest) msg;
+                streaming = streamingRoutes.match(request.method().name(),
+                        new QueryStringDecoder(request.uri()).path()) != RouteMatcher.NO_MATCH;
+            }
+            super.channelRead(ctx, msg);
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            if (msg instanceof LastHttpContent) {
+                streaming = false;
+            }
+            super.write(ctx, msg, promise);
+        }
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object event) throws Exception {
+            if (event instanceof IdleStateEvent) {
+                if (!streaming) {
+                    ctx.close();
+                }
+            } else {
+                super.userEventTriggered(ctx, event);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.reactor.config;
+
+import com.reactor.filter.RouteRule;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reactor Netty server settings. Event loop threads are configured with the other schedulers under
+ * {@code item.schedulers.event-loop-threads}.
+ */
+@Component
+@ConfigurationProperties("item.netty")
+@Data
+public class NettyProperties {
+
+    /**
+     * Use epoll when running on Linux with the native library available.
+     */
+    private boolean nativeTransport = true;
+    private boolean pooledAllocator = true;
+    private boolean directBuffers = true;
+    private boolean tcpNoDelay = true;
+    private int soBacklog = 1024;
+    /**
+     * Connections without reads or writes for this long are closed, unless one of the streaming routes is still
+     * answering; 0 disables.
+     */
+    private Duration idleTimeout = Duration.ofSeconds(60);
+    /**
+     * Routes whose responses may stay quiet for longer than the idle timeout, such as feeds and server-sent events.
+     */
+    private List<StreamingRoute> streamingRoutes = new ArrayList<>();
+    private int maxHeaderSize = 8192;
+    private int maxInitialLineLength = 4096;
+
+    @Data
+    public static class StreamingRoute implements RouteRule {
+
+        private String pattern;
+        private List<String> methods = new ArrayList<>();
+
+    }
+}
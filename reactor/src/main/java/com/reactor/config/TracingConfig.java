@@ -0,0 +1,48 @@
+package com.reactor.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reactor.scheduler.ItemSchedulers;
+import com.reactor.tracing.SpanSink;
+import com.reactor.tracing.Tracer;
+import com.reactor.tracing.TracingProperties;
+import com.reactor.tracing.TracingWebFilter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Wires the shared tracing library under {@code item.tracing}. Exports run on the item schedulers.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConfigurationProperties("item.tracing")
+    public TracingProperties tracingProperties() {
+        TracingProperties tracingProperties = new TracingProperties();
+        tracingProperties.setService("reactor");
+        return tracingProperties;
+    }
+
+    @Bean
+    public SpanSink spanSink(TracingProperties tracingProperties, ObjectMapper objectMapper,
+                             WebClient.Builder webClientBuilder) {
+        return SpanSink.of(tracingProperties, objectMapper, webClientBuilder);
+    }
+
+    @Bean
+    public Tracer tracer(TracingProperties tracingProperties, SpanSink spanSink, ItemSchedulers itemSchedulers) {
+        return new Tracer(tracingProperties, spanSink, itemSchedulers.timer(),
+                itemSchedulers.workload(Tracer.EXPORT_WORKLOAD));
+    }
+
+    /**
+     * Right after the request event filter, so limiter rejections are traced as well.
+     */
+    @Bean
+    public TracingWebFilter tracingWebFilter(Tracer tracer, TracingProperties tracingProperties) {
+        return new TracingWebFilter(tracer, tracingProperties, Ordered.HIGHEST_PRECEDENCE + 1);
+    }
+}
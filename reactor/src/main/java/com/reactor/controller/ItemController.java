@@ -1,69 +1,83 @@
 package com.reactor.controller;
 
+import com.reactor.cache.HttpCacheProperties;
+import com.reactor.cache.ItemETags;
 import com.reactor.document.Item;
-import com.reactor.repository.ItemReactiveRepository;
+import com.reactor.exception.ItemErrors;
+import com.reactor.service.ItemService;
 import lombok.extern.slf4j.Slf4j;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @Slf4j
 public class ItemController {
 
-    @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<String> handleRunTimeException(RuntimeException exception) {
-        log.error("Exception caught in handleRunTimeException: " + exception);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(exception.getMessage());
-    }
-
-    private final ItemReactiveRepository itemReactiveRepository;
+    private final ItemService itemService;
+    private final HttpCacheProperties httpCacheProperties;
 
-    public ItemController(ItemReactiveRepository itemReactiveRepository) {
-        this.itemReactiveRepository = itemReactiveRepository;
+    public ItemController(ItemService itemService, HttpCacheProperties httpCacheProperties) {
+        this.itemService = itemService;
+        this.httpCacheProperties = httpCacheProperties;
     }
 
+    /**
+     * The list carries Cache-Control but no validator: nothing cheap identifies its contents across replicas and
+     * writers that bypass this service, so only single items are revalidated.
+     */
     @GetMapping("/v1/items")
-    public Flux<Item> list() {
-        return itemReactiveRepository.findAll();
+    public Mono<ResponseEntity<List<Item>>> list() {
+        return itemService.list()
+                .map(items -> ResponseEntity.ok()
+                        .cacheControl(httpCacheProperties.cacheControl("items"))
+                        .body(items));
+    }
+
+    /**
+     * Streams the collection as newline delimited JSON, following the subscriber's demand down to the Mongo cursor.
+     */
+    @GetMapping(value = "/v1/items", produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
+    public Flux<Item> stream() {
+        return itemService.findAll();
     }
 
     @GetMapping("/v1/items/{id}")
     public Mono<ResponseEntity<Item>> get(@PathVariable String id) {
-        return itemReactiveRepository.findById(id)
-                .map(ResponseEntity::ok)
+        return itemService.findById(id)
+                .map(item -> ResponseEntity.ok()
+                        .eTag(ItemETags.of(item))
+                        .cacheControl(httpCacheProperties.cacheControl("item"))
+                        .body(item))
                 .defaultIfEmpty(ResponseEntity.noContent().build());
     }
 
     @PostMapping("/v1/items")
     @ResponseStatus(HttpStatus.CREATED)
     public Mono<Item> save(@RequestBody Item item) {
-        return itemReactiveRepository.save(item);
+        return itemService.save(item);
     }
 
     @DeleteMapping("/v1/items/{id}")
     public Mono<Void> delete(@PathVariable String id) {
-        return itemReactiveRepository.deleteById(id);
+        return itemService.delete(id);
     }
 
     @PutMapping("/v1/items/{id}")
     public Mono<ResponseEntity<Item>> update(@PathVariable String id, @RequestBody Item item) {
-        return itemReactiveRepository.findById(id)
-                .flatMap(currentItem -> {
-                    currentItem.setDescription(item.getDescription());
-                    currentItem.setPrice(item.getPrice());
-                    return itemReactiveRepository.save(currentItem);
-                }).map(ResponseEntity::ok)
+        return itemService.update(id, item)
+                .map(ResponseEntity::ok)
                 .defaultIfEmpty(ResponseEntity.noContent().build());
     }
 
     @GetMapping("/v1/items/runTimeException")
     public Flux<Item> runTimeException() {
-        return itemReactiveRepository.findAll()
-                .concatWith(Mono.error(new RuntimeException("RunTimeException :o")));
+        return itemService.findAll()
+                .concatWith(Mono.error(ItemErrors.RUNTIME_DEMO));
     }
 }
@@ -1,23 +1,59 @@
 package com.reactor.controller;
 
 import com.reactor.document.ItemCapped;
-import com.reactor.repository.ItemReactiveCappedRepository;
+import com.reactor.invalidation.ItemInvalidation;
+import com.reactor.invalidation.ItemInvalidationPublisher;
+import com.reactor.lifecycle.GracefulDrain;
+import com.reactor.stream.ItemFeed;
+import com.reactor.stream.ItemStreamFilter;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
 
+import java.util.Map;
+
 @RestController
 public class ItemStreamController {
 
-    private final ItemReactiveCappedRepository itemReactiveCappedRepository;
+    private final ItemFeed itemFeed;
+    private final ItemInvalidationPublisher itemInvalidationPublisher;
+    private final GracefulDrain gracefulDrain;
 
-    public ItemStreamController(ItemReactiveCappedRepository itemReactiveCappedRepository) {
-        this.itemReactiveCappedRepository = itemReactiveCappedRepository;
+    public ItemStreamController(ItemFeed itemFeed,
+                                ItemInvalidationPublisher itemInvalidationPublisher,
+                                GracefulDrain gracefulDrain) {
+        this.itemFeed = itemFeed;
+        this.itemInvalidationPublisher = itemInvalidationPublisher;
+        this.gracefulDrain = gracefulDrain;
     }
 
     @GetMapping(value = "/v1/stream/items", produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
-    public Flux<ItemCapped> listItemStream() {
-        return itemReactiveCappedRepository.findItemsBy();
+    public Flux<ItemCapped> listItemStream(ItemStreamFilter filter) {
+        return gracefulDrain.stream(itemFeed.tail(filter.validate()));
+    }
+
+    /**
+     * A reconnecting client resumes after its Last-Event-ID. On shutdown the stream ends with a reconnect event.
+     */
+    @GetMapping(value = "/v1/stream/items/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ItemCapped>> listItemEvents(ItemStreamFilter filter,
+                                                            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return gracefulDrain.events(itemFeed.tail(filter.validate(), lastEventId).map(item -> ServerSentEvent.builder(item)
+                .id(item.getId())
+                .event("item")
+                .build()));
+    }
+
+    @GetMapping("/v1/stream/items/metrics")
+    public Map<String, Long> feedMetrics() {
+        return itemFeed.getMetrics();
+    }
+
+    @GetMapping(value = "/v1/stream/items/invalidations", produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
+    public Flux<ItemInvalidation> listItemInvalidations() {
+        return gracefulDrain.stream(itemInvalidationPublisher.invalidations());
     }
 }
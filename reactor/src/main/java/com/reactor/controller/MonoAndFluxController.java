@@ -1,5 +1,8 @@
 package com.reactor.controller;
 
+import com.reactor.lifecycle.GracefulDrain;
+import com.reactor.logging.SignalLogging;
+import com.reactor.scheduler.ItemSchedulers;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -7,24 +10,43 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 @RestController
 public class MonoAndFluxController {
 
+    /**
+     * The signal logging routes of this controller, the only ones that can be enabled.
+     */
+    public static final List<String> SIGNAL_ROUTES = Arrays.asList("flux", "flux-stream", "mono");
+
+    private final ItemSchedulers itemSchedulers;
+    private final SignalLogging signalLogging;
+    private final GracefulDrain gracefulDrain;
+
+    public MonoAndFluxController(ItemSchedulers itemSchedulers, SignalLogging signalLogging, GracefulDrain gracefulDrain) {
+        this.itemSchedulers = itemSchedulers;
+        this.signalLogging = signalLogging;
+        this.gracefulDrain = gracefulDrain;
+    }
+
     @GetMapping("/flux")
     public Flux<Integer> getFlux() {
         return Flux.just(1, 2, 3, 4)
-                .log();
+                .transform(flux -> signalLogging.flux("flux", flux));
     }
 
     @GetMapping(value = "/flux-stream", produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
     public Flux<Long> getFluxStream() {
-        return Flux.interval(Duration.ofSeconds(1))
-                .log();
+        return Flux.interval(Duration.ofSeconds(1), itemSchedulers.timer())
+                .transform(flux -> signalLogging.flux("flux-stream", flux))
+                .transform(gracefulDrain::stream);
     }
 
     @GetMapping("/mono")
     public Mono<Integer> getMono() {
-        return Mono.just(1);
+        return Mono.just(1)
+                .transform(mono -> signalLogging.mono("mono", mono));
     }
 }
@@ -1,27 +1,21 @@
 package com.reactor.exception;
 
-import com.reactor.controller.ItemController;
-import lombok.extern.slf4j.Slf4j;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 @ControllerAdvice
-@Slf4j
 public class ControllerExceptionHandler {
 
-    @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<String> handleRunTimeException(RuntimeException exception) {
-        log.error("Exception caught in handleRunTimeException: " + exception);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(exception.getMessage());
+    private final ErrorReporter errorReporter;
+
+    public ControllerExceptionHandler(ErrorReporter errorReporter) {
+        this.errorReporter = errorReporter;
     }
 
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<String> handleException(Exception exception) {
-        log.error("Exception caught in handleException: + " + exception);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(exception.getMessage());
+    @ExceptionHandler(Throwable.class)
+    public ResponseEntity<ErrorResponse> handleException(Throwable exception) {
+        ErrorResponse errorResponse = errorReporter.report(exception);
+        return ResponseEntity.status(errorResponse.getStatus()).body(errorResponse);
     }
 }
@@ -0,0 +1,37 @@
+package com.reactor.exception;
+
+import org.springframework.http.HttpStatus;
+
+public enum ErrorCode {
+
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST),
+    NOT_FOUND(HttpStatus.NOT_FOUND),
+    METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED),
+    NOT_ACCEPTABLE(HttpStatus.NOT_ACCEPTABLE),
+    UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE),
+    DEMO_FAILURE(HttpStatus.INTERNAL_SERVER_ERROR),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private final HttpStatus status;
+
+    ErrorCode(HttpStatus status) {
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * The label for a status; statuses without a code of their own fall back to the code of their class.
+     */
+    public static ErrorCode forStatus(HttpStatus status) {
+        for (ErrorCode code : values()) {
+            if (code.status == status && code != DEMO_FAILURE) {
+                return code;
+            }
+        }
+        return status.is4xxClientError() ? INVALID_REQUEST : INTERNAL_ERROR;
+    }
+}
@@ -0,0 +1,21 @@
+package com.reactor.exception;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+public class ErrorCountController {
+
+    private final ErrorReporter errorReporter;
+
+    public ErrorCountController(ErrorReporter errorReporter) {
+        this.errorReporter = errorReporter;
+    }
+
+    @GetMapping("/v1/admin/errors")
+    public Map<String, Long> counts() {
+        return errorReporter.getCounts();
+    }
+}
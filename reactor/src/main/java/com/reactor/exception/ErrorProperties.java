@@ -0,0 +1,23 @@
+package com.reactor.exception;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Error log sampling. Every error is counted; per error code at most {@code logsPerSecond} are logged, after a
+ * burst of {@code logBurst}.
+ */
+@Component
+@ConfigurationProperties("item.errors")
+@Data
+public class ErrorProperties {
+
+    private double logsPerSecond = 1;
+    private int logBurst = 5;
+    /**
+     * Stack traces are only ever logged for unexpected exceptions, never for {@link ItemException}.
+     */
+    private boolean logStackTraces = true;
+
+}
@@ -0,0 +1,95 @@
+package com.reactor.exception;
+
+import com.reactor.filter.TokenBucketRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Turns any failure into an {@link ErrorResponse}, shared by the annotated and functional error handlers. Counts
+ * every error by code and logs a rate-limited sample, reporting how many were suppressed in between. The code only
+ * labels the error: a status exception keeps its own HTTP status even when a code covers a range of statuses.
+ */
+@Component
+@Slf4j
+public class ErrorReporter {
+
+    private static final String INTERNAL_MESSAGE = "Internal error";
+
+    private final ErrorProperties errorProperties;
+    private final TokenBucketRateLimiter logLimiter;
+    private final Map<ErrorCode, AtomicLong> counts = new EnumMap<>(ErrorCode.class);
+    private final Map<ErrorCode, AtomicLong> suppressed = new EnumMap<>(ErrorCode.class);
+
+    public ErrorReporter(ErrorProperties errorProperties) {
+        this.errorProperties = errorProperties;
+        this.logLimiter = new TokenBucketRateLimiter(errorProperties.getLogsPerSecond(), errorProperties.getLogBurst(),
+                1, ErrorCode.values().length);
+        for (ErrorCode code : ErrorCode.values()) {
+            counts.put(code, new AtomicLong());
+            suppressed.put(code, new AtomicLong());
+        }
+    }
+
+    public ErrorResponse report(Throwable error) {
+        ErrorCode code = classify(error);
+        counts.get(code).incrementAndGet();
+        if (logLimiter.tryAcquire(code.name(), System.nanoTime()) < 0) {
+            suppressed.get(code).incrementAndGet();
+        } else {
+            log(code, error, suppressed.get(code).getAndSet(0));
+        }
+        return new ErrorResponse(code.name(), message(code, error), status(code, error).value());
+    }
+
+    public Map<String, Long> getCounts() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        counts.forEach((code, count) -> snapshot.put(code.name(), count.get()));
+        return snapshot;
+    }
+
+    long getSuppressed(ErrorCode code) {
+        return suppressed.get(code).get();
+    }
+
+    private ErrorCode classify(Throwable error) {
+        if (error instanceof ItemException) {
+            return ((ItemException) error).getCode();
+        }
+        if (error instanceof ResponseStatusException) {
+            return ErrorCode.forStatus(((ResponseStatusException) error).getStatus());
+        }
+        return ErrorCode.INTERNAL_ERROR;
+    }
+
+    private HttpStatus status(ErrorCode code, Throwable error) {
+        if (error instanceof ResponseStatusException) {
+            return ((ResponseStatusException) error).getStatus();
+        }
+        return code.getStatus();
+    }
+
+    private String message(ErrorCode code, Throwable error) {
+        if (error instanceof ItemException) {
+            return error.getMessage();
+        }
+        if (error instanceof ResponseStatusException) {
+            return ((ResponseStatusException) error).getReason();
+        }
+        return INTERNAL_MESSAGE;
+    }
+
+    private void log(ErrorCode code, Throwable error, long suppressedSinceLast) {
+        if (code == ErrorCode.INTERNAL_ERROR && !(error instanceof ItemException) && errorProperties.isLogStackTraces()) {
+            log.error("Request failed with {} ({} suppressed since last)", code, suppressedSinceLast, error);
+        } else {
+            log.warn("Request failed with {}: {} ({} suppressed since last)", code, error.toString(), suppressedSinceLast);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.reactor.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ErrorResponse {
+
+    private String code;
+    private String message;
+    private int status;
+
+}
@@ -1,42 +1,49 @@
 package com.reactor.exception;
 
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.web.ResourceProperties;
-import org.springframework.boot.autoconfigure.web.reactive.error.AbstractErrorWebExceptionHandler;
-import org.springframework.boot.web.reactive.error.ErrorAttributes;
-import org.springframework.context.ApplicationContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.server.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.Map;
-
+/**
+ * Renders errors of functional routes, filters and codecs with the same {@link ErrorResponse} as annotated routes.
+ * Implemented directly rather than on Boot's AbstractErrorWebExceptionHandler, which builds the error attribute map
+ * and logs every 500 with its stack trace. Ordered before WebFlux's status exception handler so 4xx use the same
+ * body.
+ */
 @Component
-@Slf4j
-public class FunctionErrorWebExceptionHandler extends AbstractErrorWebExceptionHandler {
+@Order(-2)
+public class FunctionErrorWebExceptionHandler implements ErrorWebExceptionHandler {
 
-    public FunctionErrorWebExceptionHandler(ErrorAttributes errorAttributes,
-                                            ApplicationContext applicationContext,
-                                            ServerCodecConfigurer serverCodecConfigurer) {
-        super(errorAttributes, new ResourceProperties(), applicationContext);
-        super.setMessageWriters(serverCodecConfigurer.getWriters());
-        super.setMessageReaders(serverCodecConfigurer.getReaders());
-    }
+    private final ErrorReporter errorReporter;
+    private final ObjectMapper objectMapper;
 
-    @Override
-    protected RouterFunction<ServerResponse> getRoutingFunction(ErrorAttributes errorAttributes) {
-        return RouterFunctions.route(RequestPredicates.all(), this::renderErrorResponse);
+    public FunctionErrorWebExceptionHandler(ErrorReporter errorReporter, ObjectMapper objectMapper) {
+        this.errorReporter = errorReporter;
+        this.objectMapper = objectMapper;
     }
 
-    private Mono<ServerResponse> renderErrorResponse(ServerRequest serverRequest) {
-        Map<String, Object> errorAttributesMap = getErrorAttributes(serverRequest, false);
-        log.info("Error Attributes Map " + errorAttributesMap);
-        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(BodyInserters.fromObject(errorAttributesMap.get("message")));
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable throwable) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(throwable);
+        }
+        ErrorResponse errorResponse = errorReporter.report(throwable);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(HttpStatus.valueOf(errorResponse.getStatus()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
     }
 }
@@ -0,0 +1,11 @@
+package com.reactor.exception;
+
+public final class ItemErrors {
+
+    public static final ItemException RUNTIME_DEMO = new ItemException(ErrorCode.DEMO_FAILURE, "RunTimeException :o");
+    public static final ItemException DRAINING = new ItemException(ErrorCode.SERVICE_UNAVAILABLE,
+            "Instance is draining, reconnect to another one");
+
+    private ItemErrors() {
+    }
+}
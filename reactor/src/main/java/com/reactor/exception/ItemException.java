@@ -0,0 +1,19 @@
+package com.reactor.exception;
+
+/**
+ * Domain failure with a known {@link ErrorCode}. It captures no stack trace and no suppressed exceptions, so
+ * instances are cheap to create and the constants in {@link ItemErrors} can be thrown repeatedly.
+ */
+public class ItemException extends RuntimeException {
+
+    private final ErrorCode code;
+
+    public ItemException(ErrorCode code, String message) {
+        super(message, null, false, false);
+        this.code = code;
+    }
+
+    public ErrorCode getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,94 @@
+package com.reactor.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient based concurrency limit: the limit grows while observed latency stays close to the no-load latency
+ * and shrinks proportionally as queueing inflates it. Dropped requests (errors) back the limit off multiplicatively.
+ * The no-load latency is a decayed minimum: it drops to any faster sample and only creeps towards samples taken
+ * without load, so sustained queueing cannot raise the baseline and let the limit drift up.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double NO_LOAD_DECAY = 0.01;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private volatile double limit;
+    private double noLoadRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+    }
+
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = allowed(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Admission check for long-lived requests (streams), which neither hold a permit nor provide a latency sample.
+     */
+    public boolean admits(RequestPriority priority) {
+        return inFlight.get() < allowed(priority);
+    }
+
+    public void onSuccess(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(rttNanos, inFlightAtCompletion);
+    }
+
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        }
+    }
+
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private int allowed(RequestPriority priority) {
+        return Math.max(1, (int) (limit * priority.getShare()));
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        boolean loaded = inFlightAtCompletion >= limit / 2;
+        if (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+        } else if (!loaded) {
+            noLoadRttNanos += (rttNanos - noLoadRttNanos) * NO_LOAD_DECAY;
+        }
+        // Without enough load the latency says nothing about the limit
+        if (!loaded) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * noLoadRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + newLimit * smoothing));
+    }
+}
@@ -0,0 +1,122 @@
+package com.reactor.filter;
+
+import com.reactor.exception.ErrorCode;
+import com.reactor.exception.ItemException;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sheds load with 503 and Retry-After once the adaptive concurrency limit is reached. Applies to annotated
+ * controllers and functional routes alike.
+ */
+@Component
+public class ConcurrencyLimitFilter implements WebFilter, Ordered {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final StreamLimiter streamLimiter;
+    private final RouteMatcher routeMatcher;
+    private final String retryAfter;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties concurrencyLimitProperties) {
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+        this.limiter = new AdaptiveConcurrencyLimiter(concurrencyLimitProperties.getInitialLimit(),
+                concurrencyLimitProperties.getMinLimit(),
+                concurrencyLimitProperties.getMaxLimit(),
+                concurrencyLimitProperties.getSmoothing());
+        this.streamLimiter = new StreamLimiter(concurrencyLimitProperties.getMaxStreams());
+        this.routeMatcher = new RouteMatcher(concurrencyLimitProperties.getRoutes());
+        this.retryAfter = String.valueOf(Math.max(1, concurrencyLimitProperties.getRetryAfter().getSeconds()));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!concurrencyLimitProperties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        ConcurrencyLimitProperties.Route route = route(exchange.getRequest());
+        RequestPriority priority = route == null ? concurrencyLimitProperties.getDefaultPriority() : route.getPriority();
+        if (route != null && route.isStreaming()) {
+            if (!limiter.admits(priority) || !streamLimiter.tryAcquire(priority)) {
+                return reject(exchange.getResponse());
+            }
+            return chain.filter(exchange)
+                    .doFinally(signalType -> streamLimiter.release());
+        }
+        if (!limiter.tryAcquire(priority)) {
+            return reject(exchange.getResponse());
+        }
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnError(error -> {
+                    if (isOverload(error)) {
+                        limiter.onDropped();
+                    } else {
+                        limiter.onIgnore();
+                    }
+                })
+                .doFinally(signalType -> {
+                    if (signalType == SignalType.ON_COMPLETE) {
+                        limiter.onSuccess(System.nanoTime() - start);
+                    } else if (signalType == SignalType.CANCEL) {
+                        limiter.onIgnore();
+                    }
+                });
+    }
+
+    /**
+     * Only failures that say the instance is overloaded shrink the limit: timeouts and server errors. Client errors
+     * such as bad input or unknown ids, and the demo failure route, are released without a latency sample.
+     */
+    static boolean isOverload(Throwable error) {
+        if (error instanceof TimeoutException) {
+            return true;
+        }
+        if (error instanceof ItemException) {
+            ErrorCode code = ((ItemException) error).getCode();
+            return code != ErrorCode.DEMO_FAILURE && code.getStatus().is5xxServerError();
+        }
+        if (error instanceof ResponseStatusException) {
+            return ((ResponseStatusException) error).getStatus().is5xxServerError();
+        }
+        return true;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    public StreamLimiter getStreamLimiter() {
+        return streamLimiter;
+    }
+
+    private ConcurrencyLimitProperties.Route route(ServerHttpRequest request) {
+        int index = routeMatcher.match(request);
+        return index == RouteMatcher.NO_MATCH ? null : concurrencyLimitProperties.getRoutes().get(index);
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return response.setComplete();
+    }
+}
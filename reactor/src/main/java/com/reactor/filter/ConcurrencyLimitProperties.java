@@ -0,0 +1,38 @@
+package com.reactor.filter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties("item.concurrency-limit")
+@Data
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private int initialLimit = 50;
+    private int minLimit = 8;
+    private int maxLimit = 500;
+    private double smoothing = 0.2;
+    /**
+     * Open streams allowed at once, across all streaming routes; lower priorities get their share of it.
+     */
+    private int maxStreams = 1000;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private RequestPriority defaultPriority = RequestPriority.NORMAL;
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route implements RouteRule {
+
+        private String pattern;
+        private List<String> methods = new ArrayList<>();
+        private RequestPriority priority = RequestPriority.NORMAL;
+        private boolean streaming;
+
+    }
+}
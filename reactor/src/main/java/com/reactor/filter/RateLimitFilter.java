@@ -0,0 +1,99 @@
+package com.reactor.filter;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Per-client rate limiting keyed by API key, or by client IP when no configured key is sent. Runs before
+ * {@link ConcurrencyLimitFilter} so a flooding client is rejected before it takes concurrency permits.
+ */
+@Component
+public class RateLimitFilter implements WebFilter, Ordered {
+
+    public static final int ORDER = ConcurrencyLimitFilter.ORDER - 5;
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimitProperties rateLimitProperties;
+    private final RouteMatcher routeMatcher;
+    private final List<TokenBucketRateLimiter> routeLimiters;
+    private final TokenBucketRateLimiter defaultLimiter;
+
+    public RateLimitFilter(RateLimitProperties rateLimitProperties) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.routeMatcher = new RouteMatcher(rateLimitProperties.getRoutes());
+        this.routeLimiters = rateLimitProperties.getRoutes().stream()
+                .map(route -> limiter(route.getRequestsPerSecond(), route.getBurst()))
+                .collect(Collectors.toList());
+        this.defaultLimiter = limiter(rateLimitProperties.getDefaultLimit().getRequestsPerSecond(),
+                rateLimitProperties.getDefaultLimit().getBurst());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!rateLimitProperties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        int route = routeMatcher.match(request);
+        TokenBucketRateLimiter limiter = route == RouteMatcher.NO_MATCH ? defaultLimiter : routeLimiters.get(route);
+        long remaining = limiter.tryAcquire(clientKey(request), System.nanoTime());
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        headers.set(LIMIT_HEADER, String.valueOf(limiter.getCapacity()));
+        if (remaining < 0) {
+            return reject(exchange.getResponse(), -remaining);
+        }
+        headers.set(REMAINING_HEADER, String.valueOf(remaining));
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private TokenBucketRateLimiter limiter(double requestsPerSecond, int burst) {
+        return new TokenBucketRateLimiter(requestsPerSecond, burst,
+                rateLimitProperties.getShards(), rateLimitProperties.getMaxKeysPerShard());
+    }
+
+    private String clientKey(ServerHttpRequest request) {
+        String apiKey = request.getHeaders().getFirst(rateLimitProperties.getApiKeyHeader());
+        if (apiKey != null && rateLimitProperties.getApiKeys().contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        if (rateLimitProperties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
+            if (forwardedFor != null) {
+                int comma = forwardedFor.indexOf(',');
+                return "ip:" + (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress == null || remoteAddress.getAddress() == null
+                ? "ip:unknown"
+                : "ip:" + remoteAddress.getAddress().getHostAddress();
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response, long waitNanos) {
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(REMAINING_HEADER, "0");
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1))));
+        return response.setComplete();
+    }
+}
@@ -0,0 +1,47 @@
+package com.reactor.filter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@ConfigurationProperties("item.rate-limit")
+@Data
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private String apiKeyHeader = "X-API-Key";
+    /**
+     * API keys issued to clients. Any other value of the API key header is ignored and the client is limited by
+     * address, so a client cannot get fresh buckets by rotating made-up keys.
+     */
+    private Set<String> apiKeys = new LinkedHashSet<>();
+    private boolean trustForwardedFor;
+    private int shards = 16;
+    private int maxKeysPerShard = 10000;
+    private Limit defaultLimit = new Limit();
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Limit {
+
+        private double requestsPerSecond = 100;
+        private int burst = 200;
+
+    }
+
+    @Data
+    public static class Route implements RouteRule {
+
+        private String pattern;
+        private List<String> methods = new ArrayList<>();
+        private double requestsPerSecond = 100;
+        private int burst = 200;
+
+    }
+}
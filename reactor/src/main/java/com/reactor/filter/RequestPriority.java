@@ -0,0 +1,21 @@
+package com.reactor.filter;
+
+/**
+ * Share of the adaptive concurrency limit a request may use; lower priorities are shed first as the limit shrinks.
+ */
+public enum RequestPriority {
+
+    CRITICAL(1.0),
+    NORMAL(0.8),
+    SHEDDABLE(0.5);
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    public double getShare() {
+        return share;
+    }
+}
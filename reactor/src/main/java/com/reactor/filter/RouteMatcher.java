@@ -0,0 +1,50 @@
+package com.reactor.filter;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Matches requests against configured {@link RouteRule}s in declaration order; the first match wins and an empty
+ * method list matches every method.
+ */
+public class RouteMatcher {
+
+    public static final int NO_MATCH = -1;
+
+    private final List<? extends RouteRule> rules;
+    private final List<PathPattern> patterns;
+
+    public RouteMatcher(List<? extends RouteRule> rules) {
+        PathPatternParser parser = new PathPatternParser();
+        this.rules = rules;
+        this.patterns = rules.stream()
+                .map(rule -> parser.parse(rule.getPattern()))
+                .collect(Collectors.toList());
+    }
+
+    public int match(ServerHttpRequest request) {
+        return match(request.getMethodValue(), request.getPath().pathWithinApplication());
+    }
+
+    /**
+     * For callers below the WebFlux layer, such as Netty handlers, that only have the raw method and path.
+     */
+    public int match(String method, String path) {
+        return match(method, PathContainer.parsePath(path));
+    }
+
+    private int match(String method, PathContainer path) {
+        for (int i = 0; i < rules.size(); i++) {
+            List<String> methods = rules.get(i).getMethods();
+            if ((methods.isEmpty() || methods.contains(method)) && patterns.get(i).matches(path)) {
+                return i;
+            }
+        }
+        return NO_MATCH;
+    }
+}
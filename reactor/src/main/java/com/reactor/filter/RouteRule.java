@@ -0,0 +1,13 @@
+package com.reactor.filter;
+
+import java.util.List;
+
+/**
+ * A route selector in filter configuration: a path pattern and, optionally, the HTTP methods it applies to.
+ */
+public interface RouteRule {
+
+    String getPattern();
+
+    List<String> getMethods();
+}
@@ -0,0 +1,38 @@
+package com.reactor.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds concurrently open streams, which hold no permit of the {@link AdaptiveConcurrencyLimiter} since they give
+ * no latency sample. Lower priorities get a smaller share of the bound, as they do of the request limit.
+ */
+public class StreamLimiter {
+
+    private final AtomicInteger open = new AtomicInteger();
+    private final int maxStreams;
+
+    public StreamLimiter(int maxStreams) {
+        this.maxStreams = maxStreams;
+    }
+
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) (maxStreams * priority.getShare()));
+        while (true) {
+            int current = open.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (open.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        open.decrementAndGet();
+    }
+
+    public int getOpen() {
+        return open.get();
+    }
+}
@@ -0,0 +1,101 @@
+package com.reactor.filter;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In {@link StreamingFlushProperties.Mode#INTERVAL} mode, regroups streaming responses so items written within the
+ * interval are flushed together. Compression itself is Reactor Netty's ({@code server.compression}), which emits one
+ * compressed frame per flush.
+ */
+@Component
+public class StreamingFlushFilter implements WebFilter, Ordered {
+
+    private final StreamingFlushProperties streamingFlushProperties;
+
+    public StreamingFlushFilter(StreamingFlushProperties streamingFlushProperties) {
+        this.streamingFlushProperties = streamingFlushProperties;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (streamingFlushProperties.getMode() != StreamingFlushProperties.Mode.INTERVAL) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange.mutate().response(new IntervalFlushResponse(exchange.getResponse())).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private class IntervalFlushResponse extends ServerHttpResponseDecorator {
+
+        IntervalFlushResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            if (!isStreaming(getHeaders().getContentType())) {
+                return super.writeAndFlushWith(body);
+            }
+            // Buffers grouped but not yet written are released unless the body completes, which emits the last group
+            AtomicReference<List<DataBuffer>> pending = new AtomicReference<>();
+            Flux<Flux<DataBuffer>> grouped = Flux.from(body)
+                    .concatMap(Flux::from)
+                    .map(DataBuffer.class::cast)
+                    .bufferTimeout(streamingFlushProperties.getMaxItems(), streamingFlushProperties.getInterval(), () -> {
+                        List<DataBuffer> group = Collections.synchronizedList(new ArrayList<>());
+                        pending.set(group);
+                        return group;
+                    })
+                    .doFinally(signal -> {
+                        if (signal != SignalType.ON_COMPLETE) {
+                            release(pending.getAndSet(null));
+                        }
+                    })
+                    .map(Flux::fromIterable);
+            return super.writeAndFlushWith(grouped);
+        }
+
+        private boolean isStreaming(MediaType contentType) {
+            if (contentType == null) {
+                return false;
+            }
+            for (MediaType mediaType : streamingFlushProperties.getMediaTypes()) {
+                if (mediaType.isCompatibleWith(contentType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void release(List<DataBuffer> group) {
+            if (group != null) {
+                synchronized (group) {
+                    group.forEach(DataBufferUtils::release);
+                    group.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.reactor.filter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+@ConfigurationProperties("item.streaming-flush")
+@Data
+public class StreamingFlushProperties {
+
+    public enum Mode {
+        /**
+         * Flush (and with compression, emit a compressed frame) after every item: lowest latency.
+         */
+        PER_ITEM,
+        /**
+         * Flush items written within the interval together: better compression ratio and fewer writes.
+         */
+        INTERVAL
+    }
+
+    private Mode mode = Mode.PER_ITEM;
+    private Duration interval = Duration.ofMillis(200);
+    private int maxItems = 64;
+    private List<MediaType> mediaTypes = new ArrayList<>(Arrays.asList(
+            MediaType.APPLICATION_STREAM_JSON,
+            MediaType.TEXT_EVENT_STREAM));
+
+}
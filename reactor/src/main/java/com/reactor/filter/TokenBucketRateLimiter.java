@@ -0,0 +1,100 @@
+package com.reactor.filter;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket per key, implemented as the generic cell rate algorithm: each bucket is a single {@link AtomicLong}
+ * holding the theoretical arrival time of the next request, updated with CAS. Buckets live in hash-sharded maps;
+ * a full shard looks at a bounded sample of its buckets, evicting those that have refilled completely or, when none
+ * has, the one that refills first. Eviction cost stays constant and a shard never grows past its capacity.
+ */
+public class TokenBucketRateLimiter {
+
+    static final int EVICTION_SAMPLE = 16;
+
+    private final ConcurrentHashMap<String, AtomicLong>[] shards;
+    private final int maxKeysPerShard;
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketRateLimiter(double requestsPerSecond, int capacity, int shardCount, int maxKeysPerShard) {
+        this.shards = new ConcurrentHashMap[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+        this.maxKeysPerShard = maxKeysPerShard;
+        this.capacity = capacity;
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+    }
+
+    /**
+     * Takes a token from the bucket of {@code key}.
+     *
+     * @return the tokens left when admitted, or minus the nanoseconds until a token is available when rejected
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong bucket = bucket(key, nowNanos);
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, nowNanos) + emissionIntervalNanos;
+            long excess = next - nowNanos - burstToleranceNanos;
+            if (excess > 0) {
+                return -excess;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return (burstToleranceNanos - (next - nowNanos)) / emissionIntervalNanos;
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    int keyCount() {
+        int count = 0;
+        for (ConcurrentHashMap<String, AtomicLong> shard : shards) {
+            count += shard.size();
+        }
+        return count;
+    }
+
+    private AtomicLong bucket(String key, long nowNanos) {
+        ConcurrentHashMap<String, AtomicLong> shard = shards[(key.hashCode() & Integer.MAX_VALUE) % shards.length];
+        AtomicLong bucket = shard.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (shard.size() >= maxKeysPerShard) {
+            evict(shard, nowNanos);
+        }
+        AtomicLong created = new AtomicLong(nowNanos);
+        AtomicLong existing = shard.putIfAbsent(key, created);
+        return existing == null ? created : existing;
+    }
+
+    private void evict(ConcurrentHashMap<String, AtomicLong> shard, long nowNanos) {
+        Iterator<Map.Entry<String, AtomicLong>> sample = shard.entrySet().iterator();
+        Map.Entry<String, AtomicLong> earliest = null;
+        boolean evicted = false;
+        for (int i = 0; i < EVICTION_SAMPLE && sample.hasNext(); i++) {
+            Map.Entry<String, AtomicLong> entry = sample.next();
+            if (entry.getValue().get() <= nowNanos) {
+                sample.remove();
+                evicted = true;
+            } else if (earliest == null || entry.getValue().get() < earliest.getValue().get()) {
+                earliest = entry;
+            }
+        }
+        if (!evicted && earliest != null) {
+            shard.remove(earliest.getKey(), earliest.getValue());
+        }
+    }
+}
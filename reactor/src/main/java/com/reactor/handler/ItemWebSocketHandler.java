@@ -0,0 +1,61 @@
+package com.reactor.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reactor.lifecycle.GracefulDrain;
+import com.reactor.stream.ItemFeed;
+import com.reactor.stream.ItemStreamFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+/**
+ * Live item feed over WebSocket. Each text message from the client is an {@link ItemStreamFilter} in JSON and
+ * replaces the current subscription.
+ */
+@Component
+@Slf4j
+public class ItemWebSocketHandler implements WebSocketHandler {
+
+    private final ItemFeed itemFeed;
+    private final ObjectMapper objectMapper;
+    private final GracefulDrain gracefulDrain;
+
+    public ItemWebSocketHandler(ItemFeed itemFeed, ObjectMapper objectMapper, GracefulDrain gracefulDrain) {
+        this.itemFeed = itemFeed;
+        this.objectMapper = objectMapper;
+        this.gracefulDrain = gracefulDrain;
+    }
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        return session.send(gracefulDrain.stream(session.receive()
+                .map(WebSocketMessage::getPayloadAsText)
+                .flatMap(this::readFilter)
+                .switchMap(itemFeed::tail)
+                .flatMap(this::writeJson)
+                .map(session::textMessage)));
+    }
+
+    private Mono<ItemStreamFilter> readFilter(String payload) {
+        try {
+            return Mono.just(objectMapper.readValue(payload, ItemStreamFilter.class));
+        } catch (IOException e) {
+            log.warn("Ignoring invalid item stream filter: {}", e.getMessage());
+            return Mono.empty();
+        }
+    }
+
+    private Mono<String> writeJson(Object item) {
+        try {
+            return Mono.just(objectMapper.writeValueAsString(item));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+}
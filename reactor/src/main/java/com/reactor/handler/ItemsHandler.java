@@ -1,90 +1,128 @@
 package com.reactor.handler;
 
+import com.reactor.cache.HttpCacheProperties;
+import com.reactor.cache.ItemETags;
 import com.reactor.document.Item;
 import com.reactor.document.ItemCapped;
-import com.reactor.repository.ItemReactiveCappedRepository;
-import com.reactor.repository.ItemReactiveRepository;
+import com.reactor.exception.ItemErrors;
+import com.reactor.lifecycle.GracefulDrain;
+import com.reactor.service.ItemService;
+import com.reactor.stream.ItemFeed;
+import com.reactor.stream.ItemStreamFilter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
-import java.util.stream.Stream;
-
 @Component
 public class ItemsHandler {
 
-    private final ItemReactiveRepository itemReactiveRepository;
-    private final ItemReactiveCappedRepository itemReactiveCappedRepository;
+    private final ItemService itemService;
+    private final ItemFeed itemFeed;
+    private final HttpCacheProperties httpCacheProperties;
+    private final GracefulDrain gracefulDrain;
 
-    public ItemsHandler(ItemReactiveRepository itemReactiveRepository, ItemReactiveCappedRepository itemReactiveCappedRepository) {
-        this.itemReactiveRepository = itemReactiveRepository;
-        this.itemReactiveCappedRepository = itemReactiveCappedRepository;
+    public ItemsHandler(ItemService itemService,
+                        ItemFeed itemFeed,
+                        HttpCacheProperties httpCacheProperties,
+                        GracefulDrain gracefulDrain) {
+        this.itemService = itemService;
+        this.itemFeed = itemFeed;
+        this.httpCacheProperties = httpCacheProperties;
+        this.gracefulDrain = gracefulDrain;
     }
 
+    /**
+     * Cache-Control only; see {@link com.reactor.controller.ItemController#list()} for why the list has no ETag.
+     */
     public Mono<ServerResponse> getAllItems(ServerRequest serverRequest) {
+        return itemService.list()
+                .flatMap(items -> ServerResponse.ok()
+                        .cacheControl(httpCacheProperties.cacheControl("items"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(BodyInserters.fromObject(items)));
+    }
+
+    public Mono<ServerResponse> streamAllItems(ServerRequest serverRequest) {
         return ServerResponse.ok()
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(itemReactiveRepository.findAll(), Item.class);
+                .contentType(MediaType.APPLICATION_STREAM_JSON)
+                .body(itemService.findAll(), Item.class);
     }
 
     public Mono<ServerResponse> getOneItem(ServerRequest serverRequest) {
-        return Stream.of(serverRequest.pathVariable("id"))
-                .map(itemReactiveRepository::findById)
-                .map(itemMono -> itemMono.flatMap(item -> ServerResponse.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body(BodyInserters.fromObject(item))
-                        .switchIfEmpty(ServerResponse.noContent().build())))
-                .findFirst()
-                .orElseGet(() -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+        return itemService.findById(serverRequest.pathVariable("id"))
+                .flatMap(item -> cacheableOk(serverRequest, ItemETags.of(item), "item", item))
+                .switchIfEmpty(ServerResponse.noContent().build());
+    }
+
+    /**
+     * Answers 304 without serializing the body when If-None-Match matches the representation's ETag.
+     */
+    private Mono<ServerResponse> cacheableOk(ServerRequest serverRequest, String eTag, String route, Object body) {
+        if (ItemETags.matches(serverRequest.headers().header(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(httpCacheProperties.cacheControl(route))
+                    .build();
+        }
+        return ServerResponse.ok()
+                .eTag(eTag)
+                .cacheControl(httpCacheProperties.cacheControl(route))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromObject(body));
     }
 
     public Mono<ServerResponse> save(ServerRequest serverRequest) {
         return serverRequest.bodyToMono(Item.class)
-                .flatMap(itemReactiveRepository::save)
+                .flatMap(itemService::save)
                 .flatMap(item -> ServerResponse.status(HttpStatus.CREATED)
                         .contentType(MediaType.APPLICATION_JSON)
                         .body(BodyInserters.fromObject(item)));
     }
 
     public Mono<ServerResponse> delete(ServerRequest serverRequest) {
-        return Stream.of(serverRequest.pathVariable("id"))
-                .map(itemReactiveRepository::deleteById)
-                .map(voidMono -> ServerResponse.ok()
+        return itemService.delete(serverRequest.pathVariable("id"))
+                .then(ServerResponse.ok()
                         .contentType(MediaType.APPLICATION_JSON)
-                        .build())
-                .findFirst()
-                .orElseGet(() -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                        .build());
     }
 
     public Mono<ServerResponse> update(ServerRequest serverRequest) {
         String id = serverRequest.pathVariable("id");
-        Mono<Item> updatedItem = serverRequest.bodyToMono(Item.class)
-                .flatMap(item -> itemReactiveRepository.findById(id)
-                        .flatMap(currentItem -> {
-                            currentItem.setPrice(item.getPrice());
-                            currentItem.setDescription(item.getDescription());
-                            return itemReactiveRepository.save(currentItem);
-                        })
-                );
-
-        return updatedItem.flatMap(item -> ServerResponse.ok()
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(BodyInserters.fromObject(item))
-                .switchIfEmpty(ServerResponse.noContent().build()));
+        return serverRequest.bodyToMono(Item.class)
+                .flatMap(item -> itemService.update(id, item))
+                .flatMap(item -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(BodyInserters.fromObject(item)))
+                .switchIfEmpty(ServerResponse.noContent().build());
     }
 
     public Mono<ServerResponse> runTimeException(ServerRequest serverRequest) {
-        throw new RuntimeException("RunTimeException :o");
+        return Mono.error(ItemErrors.RUNTIME_DEMO);
     }
 
     public Mono<ServerResponse> getAllItemsStream(ServerRequest serverRequest) {
         return ServerResponse.ok()
                 .contentType(MediaType.APPLICATION_STREAM_JSON)
-                .body(itemReactiveCappedRepository.findItemsBy(), ItemCapped.class);
+                .body(gracefulDrain.stream(itemFeed.tail(ItemStreamFilter.fromQueryParams(serverRequest.queryParams()))),
+                        ItemCapped.class);
+
+    }
 
+    public Mono<ServerResponse> getAllItemsEventStream(ServerRequest serverRequest) {
+        String lastEventId = serverRequest.headers().asHttpHeaders().getFirst("Last-Event-ID");
+        ItemStreamFilter filter = ItemStreamFilter.fromQueryParams(serverRequest.queryParams());
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(BodyInserters.fromServerSentEvents(gracefulDrain.events(itemFeed.tail(filter, lastEventId)
+                        .map(item -> ServerSentEvent.builder(item)
+                                .id(item.getId())
+                                .event("item")
+                                .build()))));
     }
 }
@@ -3,15 +3,16 @@ package com.reactor.initialize;
 import com.github.javafaker.Faker;
 import com.reactor.document.Item;
 import com.reactor.document.ItemCapped;
-import com.reactor.repository.ItemReactiveCappedRepository;
 import com.reactor.repository.ItemReactiveRepository;
+import com.reactor.scheduler.ItemSchedulers;
+import com.reactor.stream.FeedCollections;
+import com.reactor.stream.ItemFeed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.mongodb.core.CollectionOptions;
-import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -19,38 +20,43 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Component
-@Profile("!test")
+@Profile("!test & !cds")
 @Slf4j
 public class ItemDataInitializer implements CommandLineRunner {
 
     private final ItemReactiveRepository itemReactiveRepository;
-    private final MongoOperations mongoOperations;
-    private final ItemReactiveCappedRepository itemReactiveCappedRepository;
+    private final FeedCollections feedCollections;
+    private final ItemFeed itemFeed;
+    private final ItemSchedulers itemSchedulers;
 
     public ItemDataInitializer(ItemReactiveRepository itemReactiveRepository,
-                               MongoOperations mongoOperations,
-                               ItemReactiveCappedRepository itemReactiveCappedRepository) {
+                               FeedCollections feedCollections,
+                               ItemFeed itemFeed,
+                               ItemSchedulers itemSchedulers) {
         this.itemReactiveRepository = itemReactiveRepository;
-        this.mongoOperations = mongoOperations;
-        this.itemReactiveCappedRepository = itemReactiveCappedRepository;
+        this.feedCollections = feedCollections;
+        this.itemFeed = itemFeed;
+        this.itemSchedulers = itemSchedulers;
     }
 
+    public static final String BLOCKING_WORKLOAD = "mongo-blocking";
+
+    /**
+     * Nothing here blocks startup: seeding runs in the background and the capped feed starts once provisioning
+     * completes. Faker loads its locale files when created, so it is built off the main thread.
+     */
     @Override
     public void run(String... args) throws Exception {
         initialSetupData();
-        createCappedCollection();
-        dataSetupForCappedCollection();
-    }
-
-    private void createCappedCollection() {
-        mongoOperations.dropCollection(ItemCapped.class);
-        mongoOperations.createCollection(ItemCapped.class,
-                CollectionOptions.empty().maxDocuments(20).size(50000).capped());
+        feedCollections.provisioned()
+                .doOnSuccess(provisioned -> dataSetupForCappedCollection())
+                .subscribe(null, error -> log.error("Feed collection provisioning failed", error));
     }
 
     private void initialSetupData() {
-        itemReactiveRepository.deleteAll()
-                .thenMany(Flux.fromIterable(data()))
+        Mono.fromCallable(this::data)
+                .subscribeOn(itemSchedulers.workload(BLOCKING_WORKLOAD))
+                .flatMapMany(items -> itemReactiveRepository.deleteAll().thenMany(Flux.fromIterable(items)))
                 .flatMap(itemReactiveRepository::save)
                 .subscribe();
     }
@@ -70,10 +76,10 @@ public class ItemDataInitializer implements CommandLineRunner {
     }
 
     public void dataSetupForCappedCollection() {
-        Flux<ItemCapped> itemCappedFlux = Flux.interval(Duration.ofSeconds(1))
+        Flux<ItemCapped> itemCappedFlux = Flux.interval(Duration.ofSeconds(1), itemSchedulers.timer())
                 .map(i -> new ItemCapped(null, "Random Item " + i, new BigDecimal(i)));
 
-        itemReactiveCappedRepository.insert(itemCappedFlux)
+        itemCappedFlux.concatMap(itemFeed::publish)
                 .subscribe(itemCapped -> log.info("Inserted item capped " + itemCapped));
     }
 }
@@ -0,0 +1,47 @@
+package com.reactor.invalidation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.time.Duration;
+
+/**
+ * Broadcasts item changes to subscribed near caches. Heartbeats let subscribers detect a dead connection; a
+ * subscriber that falls behind by more than the buffer is disconnected and, on reconnecting, starts from an
+ * empty cache.
+ */
+@Component
+public class ItemInvalidationPublisher {
+
+    private static final int SUBSCRIBER_BUFFER = 1024;
+    private static final ItemInvalidation HEARTBEAT = new ItemInvalidation(null, ItemInvalidation.Type.HEARTBEAT);
+
+    private final DirectProcessor<ItemInvalidation> processor = DirectProcessor.create();
+    private final FluxSink<ItemInvalidation> sink = processor.sink();
+    private final Duration heartbeat;
+
+    public ItemInvalidationPublisher(@Value("${item.invalidation.heartbeat:5s}") Duration heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+    public void saved(String id) {
+        sink.next(new ItemInvalidation(id, ItemInvalidation.Type.SAVED));
+    }
+
+    public void updated(String id) {
+        sink.next(new ItemInvalidation(id, ItemInvalidation.Type.UPDATED));
+    }
+
+    public void deleted(String id) {
+        sink.next(new ItemInvalidation(id, ItemInvalidation.Type.DELETED));
+    }
+
+    public Flux<ItemInvalidation> invalidations() {
+        return Flux.merge(
+                processor.onBackpressureBuffer(SUBSCRIBER_BUFFER),
+                Flux.interval(Duration.ZERO, heartbeat).map(tick -> HEARTBEAT));
+    }
+}
@@ -0,0 +1,14 @@
+package com.reactor.jfr;
+
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JfrConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer jfrMongoCommandListener() {
+        return builder -> builder.addCommandListener(new JfrMongoCommandListener());
+    }
+}
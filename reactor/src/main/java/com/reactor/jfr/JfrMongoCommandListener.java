@@ -0,0 +1,66 @@
+package com.reactor.jfr;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Emits a {@link MongoCommandEvent} per driver command. Commands start and finish on different threads, so pending
+ * events are kept by driver request id.
+ */
+public class JfrMongoCommandListener implements CommandListener {
+
+    private final ConcurrentHashMap<Integer, MongoCommandEvent> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent startedEvent) {
+        MongoCommandEvent event = new MongoCommandEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.begin();
+        event.command = startedEvent.getCommandName();
+        event.collection = collection(startedEvent.getCommandName(), startedEvent.getCommand());
+        pending.put(startedEvent.getRequestId(), event);
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent succeededEvent) {
+        MongoCommandEvent event = pending.remove(succeededEvent.getRequestId());
+        if (event != null) {
+            event.succeeded = true;
+            event.documentsReturned = documentsReturned(succeededEvent.getResponse());
+            event.commit();
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent failedEvent) {
+        MongoCommandEvent event = pending.remove(failedEvent.getRequestId());
+        if (event != null) {
+            event.commit();
+        }
+    }
+
+    private String collection(String commandName, BsonDocument command) {
+        BsonValue value = command.get("getMore".equals(commandName) ? "collection" : commandName);
+        return value != null && value.isString() ? value.asString().getValue() : null;
+    }
+
+    private int documentsReturned(BsonDocument response) {
+        BsonValue cursor = response.get("cursor");
+        if (cursor == null || !cursor.isDocument()) {
+            return 0;
+        }
+        BsonValue batch = cursor.asDocument().get("firstBatch");
+        if (batch == null) {
+            batch = cursor.asDocument().get("nextBatch");
+        }
+        return batch != null && batch.isArray() ? batch.asArray().size() : 0;
+    }
+}
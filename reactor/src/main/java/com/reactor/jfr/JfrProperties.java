@@ -0,0 +1,33 @@
+package com.reactor.jfr;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Recordings started through {@link JfrRecordingController}. Custom item events are recorded whenever any recording
+ * runs, including one started with {@code -XX:StartFlightRecording}.
+ */
+@Component
+@ConfigurationProperties("item.jfr")
+@Data
+public class JfrProperties {
+
+    /**
+     * Exposes the recording endpoints under /v1/admin/jfr; only the dev and test profiles turn them on.
+     */
+    private boolean enabled = false;
+    /**
+     * JDK settings file, "default" (about 1% overhead) or "profile".
+     */
+    private String settings = "default";
+    private Duration maxAge = Duration.ofMinutes(10);
+    private long maxSizeBytes = 100L * 1024 * 1024;
+    /**
+     * Where dumps are written before being sent; each file is deleted once its response ends.
+     */
+    private String dumpDirectory = System.getProperty("java.io.tmpdir");
+
+}
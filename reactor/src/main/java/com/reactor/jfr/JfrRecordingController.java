@@ -0,0 +1,82 @@
+package com.reactor.jfr;
+
+import com.reactor.scheduler.ItemSchedulers;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Starts, dumps and stops the on-demand recording. Dumping and stopping write files, so they run off the event loop;
+ * each dump is streamed back and deleted once the response ends, whether it completed or not.
+ */
+@RestController
+@ConditionalOnProperty(value = "item.jfr.enabled", havingValue = "true")
+@Slf4j
+public class JfrRecordingController {
+
+    public static final String ADMIN_WORKLOAD = "admin-blocking";
+
+    private final JfrRecordings jfrRecordings;
+    private final ItemSchedulers itemSchedulers;
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    public JfrRecordingController(JfrRecordings jfrRecordings, ItemSchedulers itemSchedulers) {
+        this.jfrRecordings = jfrRecordings;
+        this.itemSchedulers = itemSchedulers;
+    }
+
+    @PostMapping("/v1/admin/jfr/start")
+    public Mono<ResponseEntity<Void>> start() {
+        return Mono.fromCallable(jfrRecordings::start)
+                .subscribeOn(itemSchedulers.workload(ADMIN_WORKLOAD))
+                .map(started -> ResponseEntity.status(started ? HttpStatus.CREATED : HttpStatus.CONFLICT).<Void>build());
+    }
+
+    @PostMapping("/v1/admin/jfr/dump")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> dump() {
+        return Mono.fromCallable(jfrRecordings::dump)
+                .subscribeOn(itemSchedulers.workload(ADMIN_WORKLOAD))
+                .map(this::recordingFile)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/v1/admin/jfr/stop")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> stop() {
+        return Mono.fromCallable(jfrRecordings::stop)
+                .subscribeOn(itemSchedulers.workload(ADMIN_WORKLOAD))
+                .map(this::recordingFile)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<Flux<DataBuffer>> recordingFile(Path path) {
+        Flux<DataBuffer> body = DataBufferUtils.read(new FileSystemResource(path), bufferFactory, 8192)
+                .doFinally(signal -> itemSchedulers.workload(ADMIN_WORKLOAD).schedule(() -> delete(path)));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + path.getFileName() + "\"")
+                .body(body);
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete JFR dump {}", path, e);
+        }
+    }
+}
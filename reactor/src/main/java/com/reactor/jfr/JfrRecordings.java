@@ -0,0 +1,81 @@
+package com.reactor.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Instant;
+
+/**
+ * The single on-demand recording of this node. Dumps are written to the configured directory.
+ */
+@Component
+@Slf4j
+public class JfrRecordings implements DisposableBean {
+
+    private final JfrProperties jfrProperties;
+    private Recording recording;
+
+    public JfrRecordings(JfrProperties jfrProperties) {
+        this.jfrProperties = jfrProperties;
+    }
+
+    public synchronized boolean start() throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return false;
+        }
+        recording = new Recording(Configuration.getConfiguration(jfrProperties.getSettings()));
+        recording.setName("item-service");
+        recording.setMaxAge(jfrProperties.getMaxAge());
+        recording.setMaxSize(jfrProperties.getMaxSizeBytes());
+        recording.enable(RequestEvent.class);
+        recording.enable(MongoCommandEvent.class);
+        recording.enable(StreamSubscriptionEvent.class);
+        recording.start();
+        log.info("Started JFR recording {} with {} settings", recording.getId(), jfrProperties.getSettings());
+        return true;
+    }
+
+    /**
+     * Writes what the running recording holds so far; null when none is running.
+     */
+    public synchronized Path dump() throws IOException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return null;
+        }
+        Path path = dumpPath();
+        recording.dump(path);
+        return path;
+    }
+
+    public synchronized Path stop() throws IOException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return null;
+        }
+        Path path = dumpPath();
+        recording.stop();
+        recording.dump(path);
+        recording.close();
+        recording = null;
+        log.info("Stopped JFR recording, dumped to {}", path);
+        return path;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private Path dumpPath() {
+        return Paths.get(jfrProperties.getDumpDirectory(), "item-service-" + Instant.now().toEpochMilli() + ".jfr");
+    }
+}
@@ -0,0 +1,56 @@
+package com.reactor.jfr;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Emits a {@link RequestEvent} per request. Runs first so rejections by the limiters are recorded too; errors still
+ * propagating here are recorded as 500 since the error handlers run after the filter chain.
+ */
+@Component
+public class JfrRequestFilter implements WebFilter, Ordered {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        RequestEvent event = new RequestEvent();
+        if (!event.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        event.begin();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.method = exchange.getRequest().getMethodValue();
+                        event.route = route(exchange);
+                        event.status = status(exchange, signal);
+                        event.commit();
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private String route(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : exchange.getRequest().getPath().value();
+    }
+
+    private int status(ServerWebExchange exchange, SignalType signal) {
+        if (signal == SignalType.ON_ERROR) {
+            return HttpStatus.INTERNAL_SERVER_ERROR.value();
+        }
+        HttpStatus status = exchange.getResponse().getStatusCode();
+        return status != null ? status.value() : HttpStatus.OK.value();
+    }
+}
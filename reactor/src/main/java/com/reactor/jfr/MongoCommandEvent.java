@@ -0,0 +1,26 @@
+package com.reactor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reactor.MongoCommand")
+@Label("Mongo Command")
+@Category({"Item Service", "Mongo"})
+@StackTrace(false)
+public class MongoCommandEvent extends jdk.jfr.Event {
+
+    @Label("Command")
+    String command;
+
+    @Label("Collection")
+    String collection;
+
+    @Label("Documents Returned")
+    int documentsReturned;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+}
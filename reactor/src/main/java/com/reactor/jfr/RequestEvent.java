@@ -0,0 +1,25 @@
+package com.reactor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reactor.Request")
+@Label("HTTP Request")
+@Description("An HTTP request served by the item service, from the first filter until the response completes")
+@Category({"Item Service", "HTTP"})
+@StackTrace(false)
+public class RequestEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    String route;
+
+    @Label("Status")
+    int status;
+
+}
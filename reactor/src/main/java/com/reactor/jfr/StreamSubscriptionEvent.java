@@ -0,0 +1,32 @@
+package com.reactor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.reactor.StreamSubscription")
+@Label("Stream Subscription")
+@Description("Lifetime of one subscriber of the item feed")
+@Category({"Item Service", "Streams"})
+@StackTrace(false)
+public class StreamSubscriptionEvent extends jdk.jfr.Event {
+
+    @Label("Filter")
+    String filter;
+
+    @Label("Items Read")
+    long itemsRead;
+
+    @Label("Items Delivered")
+    long itemsDelivered;
+
+    @Label("Items Dropped")
+    @Description("Items removed by sampling or the per-second cap")
+    long itemsDropped;
+
+    @Label("Termination")
+    String termination;
+
+}
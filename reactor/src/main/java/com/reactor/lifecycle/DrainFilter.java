@@ -0,0 +1,54 @@
+package com.reactor.lifecycle;
+
+import com.reactor.exception.ItemErrors;
+import com.reactor.filter.ConcurrencyLimitProperties;
+import com.reactor.filter.RouteMatcher;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.stream.Collectors;
+
+/**
+ * Refuses new streams with 503 while draining, before they reach the limiters. The streaming routes are the ones
+ * marked {@code streaming} in the concurrency limit configuration.
+ */
+@Component
+public class DrainFilter implements WebFilter, Ordered {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 5;
+
+    private final GracefulDrain gracefulDrain;
+    private final RouteMatcher streamingRoutes;
+    private final String retryAfter;
+
+    public DrainFilter(GracefulDrain gracefulDrain,
+                       ConcurrencyLimitProperties concurrencyLimitProperties,
+                       LifecycleProperties lifecycleProperties) {
+        this.gracefulDrain = gracefulDrain;
+        this.streamingRoutes = new RouteMatcher(concurrencyLimitProperties.getRoutes().stream()
+                .filter(ConcurrencyLimitProperties.Route::isStreaming)
+                .collect(Collectors.toList()));
+        this.retryAfter = String.valueOf(Math.max(1, lifecycleProperties.getReconnectMinDelay().getSeconds()));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!gracefulDrain.isDraining() || streamingRoutes.match(exchange.getRequest()) == RouteMatcher.NO_MATCH) {
+            return chain.filter(exchange);
+        }
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        headers.set(HttpHeaders.CONNECTION, "close");
+        return Mono.error(ItemErrors.DRAINING);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,155 @@
+package com.reactor.lifecycle;
+
+import com.reactor.exception.ItemErrors;
+import com.reactor.scheduler.ItemSchedulers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Tracks long-lived streams and in-flight writes, and drains them when the context stops. It stops first, while
+ * the web and RSocket servers still accept traffic: new streams are refused, open streams are closed at jittered
+ * points, SSE streams ending with a {@code reconnect} event whose retry is jittered too, and shutdown continues
+ * once no stream or write is left or the drain timeout passes.
+ */
+@Component
+@Slf4j
+public class GracefulDrain implements SmartLifecycle {
+
+    public static final String RECONNECT_EVENT = "reconnect";
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final LifecycleProperties lifecycleProperties;
+    private final ItemSchedulers itemSchedulers;
+    private final MonoProcessor<Void> closeStreams = MonoProcessor.create();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicInteger openStreams = new AtomicInteger();
+    private final AtomicInteger inFlightWrites = new AtomicInteger();
+    private volatile boolean running;
+
+    public GracefulDrain(LifecycleProperties lifecycleProperties, ItemSchedulers itemSchedulers) {
+        this.lifecycleProperties = lifecycleProperties;
+        this.itemSchedulers = itemSchedulers;
+    }
+
+    public boolean isDraining() {
+        return draining.get();
+    }
+
+    public int getOpenStreams() {
+        return openStreams.get();
+    }
+
+    public int getInFlightWrites() {
+        return inFlightWrites.get();
+    }
+
+    public <T> Flux<T> stream(Flux<T> source) {
+        return track(source, null);
+    }
+
+    public <T> Flux<ServerSentEvent<T>> events(Flux<ServerSentEvent<T>> source) {
+        return track(source, retry -> ServerSentEvent.<T>builder()
+                .event(RECONNECT_EVENT)
+                .retry(retry)
+                .build());
+    }
+
+    public <T> Mono<T> write(Mono<T> source) {
+        return Mono.defer(() -> {
+            inFlightWrites.incrementAndGet();
+            return source.doFinally(signalType -> inFlightWrites.decrementAndGet());
+        });
+    }
+
+    public Mono<Void> drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return Mono.empty();
+        }
+        log.info("Draining {} open streams and {} in-flight writes", openStreams.get(), inFlightWrites.get());
+        return Mono.delay(lifecycleProperties.getDrainDelay(), itemSchedulers.timer())
+                .doOnNext(tick -> closeStreams.onComplete())
+                .thenMany(Flux.interval(Duration.ZERO, POLL_INTERVAL, itemSchedulers.timer()))
+                .filter(tick -> openStreams.get() == 0 && inFlightWrites.get() == 0)
+                .next()
+                .doOnNext(tick -> log.info("Drain complete"))
+                .then()
+                .timeout(lifecycleProperties.getDrainTimeout(), Mono.fromRunnable(() ->
+                        log.warn("Drain timed out with {} open streams and {} in-flight writes",
+                                openStreams.get(), inFlightWrites.get())), itemSchedulers.timer());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        drain().block();
+        running = false;
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        drain().doFinally(signalType -> {
+            running = false;
+            callback.run();
+        }).subscribe();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return true;
+    }
+
+    /**
+     * Stopped first, before any other lifecycle bean.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+
+    private <T> Flux<T> track(Flux<T> source, Function<Duration, T> reconnectHint) {
+        return Flux.defer(() -> {
+            if (draining.get()) {
+                return Flux.error(ItemErrors.DRAINING);
+            }
+            openStreams.incrementAndGet();
+            AtomicBoolean drained = new AtomicBoolean();
+            Flux<T> stream = source.takeUntilOther(closeStreams
+                    .then(Mono.defer(() -> Mono.delay(jitter(Duration.ZERO, lifecycleProperties.getCloseSpread()),
+                            itemSchedulers.timer())))
+                    .doOnNext(tick -> drained.set(true)));
+            if (reconnectHint != null) {
+                stream = stream.concatWith(Mono.fromSupplier(() -> drained.get()
+                        ? reconnectHint.apply(jitter(lifecycleProperties.getReconnectMinDelay(),
+                        lifecycleProperties.getReconnectMaxDelay()))
+                        : null));
+            }
+            return stream.doFinally(signalType -> openStreams.decrementAndGet());
+        });
+    }
+
+    private static Duration jitter(Duration min, Duration max) {
+        long spread = Math.max(0, max.toMillis() - min.toMillis());
+        return min.plusMillis(ThreadLocalRandom.current().nextLong(spread + 1));
+    }
+}
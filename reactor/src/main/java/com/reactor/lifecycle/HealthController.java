@@ -0,0 +1,34 @@
+package com.reactor.lifecycle;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.Map;
+
+@RestController
+public class HealthController {
+
+    private static final Map<String, String> LIVE = Collections.singletonMap("status", ReadinessCheck.UP);
+
+    private final ReadinessCheck readinessCheck;
+
+    public HealthController(ReadinessCheck readinessCheck) {
+        this.readinessCheck = readinessCheck;
+    }
+
+    @GetMapping("/v1/health/live")
+    public Map<String, String> live() {
+        return LIVE;
+    }
+
+    @GetMapping("/v1/health/ready")
+    public Mono<ResponseEntity<Map<String, String>>> ready() {
+        return readinessCheck.check()
+                .map(checks -> ResponseEntity.status(ReadinessCheck.UP.equals(checks.get("status"))
+                        ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(checks));
+    }
+}
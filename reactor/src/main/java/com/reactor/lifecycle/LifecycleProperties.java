@@ -0,0 +1,32 @@
+package com.reactor.lifecycle;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Readiness and shutdown drain. On shutdown readiness fails first; after {@code drainDelay} every open stream is
+ * closed at a random point within {@code closeSpread}, SSE streams with a reconnect hint between
+ * {@code reconnectMinDelay} and {@code reconnectMaxDelay}, so clients do not all reconnect at once.
+ */
+@Component
+@ConfigurationProperties("item.lifecycle")
+@Data
+public class LifecycleProperties {
+
+    /**
+     * Time for load balancers to see the failing readiness before streams are closed.
+     */
+    private Duration drainDelay = Duration.ZERO;
+    private Duration closeSpread = Duration.ofSeconds(5);
+    private Duration reconnectMinDelay = Duration.ofSeconds(1);
+    private Duration reconnectMaxDelay = Duration.ofSeconds(10);
+    /**
+     * Upper bound of the whole drain; kept below Spring's 30 second per-phase shutdown timeout.
+     */
+    private Duration drainTimeout = Duration.ofSeconds(20);
+    private Duration readinessTimeout = Duration.ofSeconds(2);
+
+}
@@ -0,0 +1,107 @@
+package com.reactor.lifecycle;
+
+import com.reactor.document.Item;
+import com.reactor.stream.FeedCollections;
+import com.reactor.stream.FeedProperties;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Readiness: not draining, Mongo answering a ping, feed provisioning finished with every feed collection present and
+ * capped, and every index declared on {@link Item} present. Each check is bounded by the readiness timeout and reports
+ * UP or DOWN.
+ */
+@Component
+public class ReadinessCheck {
+
+    public static final String UP = "UP";
+    public static final String DOWN = "DOWN";
+
+    private static final Document PING = new Document("ping", 1);
+
+    private final ReactiveMongoOperations reactiveMongoOperations;
+    private final FeedCollections feedCollections;
+    private final FeedProperties feedProperties;
+    private final GracefulDrain gracefulDrain;
+    private final LifecycleProperties lifecycleProperties;
+    private final String itemCollection;
+    private final List<Document> itemIndexKeys = new ArrayList<>();
+
+    public ReadinessCheck(ReactiveMongoOperations reactiveMongoOperations,
+                          MongoMappingContext mongoMappingContext,
+                          FeedCollections feedCollections,
+                          FeedProperties feedProperties,
+                          GracefulDrain gracefulDrain,
+                          LifecycleProperties lifecycleProperties) {
+        this.reactiveMongoOperations = reactiveMongoOperations;
+        this.feedCollections = feedCollections;
+        this.feedProperties = feedProperties;
+        this.gracefulDrain = gracefulDrain;
+        this.lifecycleProperties = lifecycleProperties;
+        this.itemCollection = reactiveMongoOperations.getCollectionName(Item.class);
+        new MongoPersistentEntityIndexResolver(mongoMappingContext)
+                .resolveIndexFor(ClassTypeInformation.from(Item.class))
+                .forEach(index -> itemIndexKeys.add(index.getIndexKeys()));
+    }
+
+    public Mono<Map<String, String>> check() {
+        return Mono.zip(status(ping()), status(feedCollections()), status(itemIndexes()))
+                .map(checks -> {
+                    Map<String, String> result = new LinkedHashMap<>();
+                    result.put("draining", gracefulDrain.isDraining() ? DOWN : UP);
+                    result.put("mongo", checks.getT1());
+                    result.put("feedCollections", checks.getT2());
+                    result.put("indexes", checks.getT3());
+                    result.put("status", result.values().stream().allMatch(UP::equals) ? UP : DOWN);
+                    return result;
+                });
+    }
+
+    private Mono<String> status(Mono<Boolean> check) {
+        return check.timeout(lifecycleProperties.getReadinessTimeout())
+                .map(up -> up ? UP : DOWN)
+                .onErrorReturn(DOWN);
+    }
+
+    private Mono<Boolean> ping() {
+        return reactiveMongoOperations.executeCommand(PING)
+                .map(reply -> reply.get("ok") instanceof Number && ((Number) reply.get("ok")).intValue() == 1);
+    }
+
+    private Mono<Boolean> feedCollections() {
+        if (!feedCollections.isProvisioned()) {
+            return Mono.just(false);
+        }
+        List<String> names = feedProperties.collectionNames();
+        Document listCollections = new Document("listCollections", 1)
+                .append("filter", new Document("name", new Document("$in", names)));
+        return reactiveMongoOperations.executeCommand(listCollections)
+                .map(reply -> firstBatch(reply).stream()
+                        .filter(collection -> collection.get("options", Document.class).getBoolean("capped", false))
+                        .count() == names.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Document> firstBatch(Document reply) {
+        return (List<Document>) reply.get("cursor", Document.class).get("firstBatch", List.class);
+    }
+
+    private Mono<Boolean> itemIndexes() {
+        return Flux.from(reactiveMongoOperations.getCollection(itemCollection).listIndexes())
+                .map(index -> new ArrayList<>(index.get("key", Document.class).keySet()))
+                .collectList()
+                .map(existing -> itemIndexKeys.stream()
+                        .allMatch(keys -> existing.contains(new ArrayList<>(keys.keySet()))));
+    }
+}
@@ -0,0 +1,20 @@
+package com.reactor.migration;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+/**
+ * A transformation applied by {@link MigrationEngine} to every document of the items collection matching {@link #filter()}.
+ * The filter is re-checked on write, so documents changed concurrently by the API are not overwritten.
+ */
+public interface ItemMigration {
+
+    String name();
+
+    Bson filter();
+
+    /**
+     * Returns {@code null} when the document cannot be migrated: it is left as is and counted as skipped.
+     */
+    Bson transform(Document document);
+}
@@ -0,0 +1,223 @@
+package com.reactor.migration;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.reactor.document.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs {@link ItemMigration}s online: the items collection is split into {@code _id} ranges, ranges are scanned in
+ * parallel and rewritten with unordered bulk updates, throttled to a global ops/sec budget.
+ * Progress is checkpointed per range so an interrupted migration resumes where it stopped.
+ */
+@Component
+@Slf4j
+public class MigrationEngine {
+
+    public static final String CHECKPOINT_COLLECTION = "migrationCheckpoint";
+
+    private static final String ID = "_id";
+    private static final String MIGRATION = "migration";
+    private static final String ID_TYPE = "idType";
+    private static final String LOWER = "lower";
+    private static final String UPPER = "upper";
+    private static final String LAST_ID = "lastId";
+    private static final String MIGRATED = "migrated";
+    private static final String SKIPPED = "skipped";
+    private static final String COMPLETED = "completed";
+    private static final List<BsonType> ID_TYPES = Arrays.asList(BsonType.OBJECT_ID, BsonType.STRING);
+
+    private final ReactiveMongoOperations reactiveMongoOperations;
+    private final MigrationProperties migrationProperties;
+    private final AtomicLong nextPermitNanos = new AtomicLong(System.nanoTime());
+
+    public MigrationEngine(ReactiveMongoOperations reactiveMongoOperations, MigrationProperties migrationProperties) {
+        this.reactiveMongoOperations = reactiveMongoOperations;
+        this.migrationProperties = migrationProperties;
+    }
+
+    public Mono<Long> run(ItemMigration migration) {
+        MongoCollection<Document> items = reactiveMongoOperations.getCollection(reactiveMongoOperations.getCollectionName(Item.class));
+        MongoCollection<Document> checkpoints = reactiveMongoOperations.getCollection(CHECKPOINT_COLLECTION);
+        return Flux.from(checkpoints.find(Filters.eq(MIGRATION, migration.name())))
+                .switchIfEmpty(planPartitions(migration, items, checkpoints))
+                .filter(checkpoint -> !checkpoint.getBoolean(COMPLETED))
+                .flatMap(checkpoint -> migratePartition(migration, items, checkpoints, checkpoint),
+                        migrationProperties.getParallelism())
+                .collectList()
+                .map(completed -> {
+                    long migrated = sum(completed, MIGRATED);
+                    log.info("Migration {} finished, {} documents migrated, {} skipped", migration.name(), migrated,
+                            sum(completed, SKIPPED));
+                    return migrated;
+                });
+    }
+
+    private long sum(List<Document> checkpoints, String field) {
+        long sum = 0;
+        for (Document checkpoint : checkpoints) {
+            sum += checkpoint.get(field, 0L);
+        }
+        return sum;
+    }
+
+    /**
+     * Range queries on {@code _id} only match a single BSON type, so ObjectId and String ids are partitioned separately.
+     * The first range of each type is open below and the last one open above, so documents inserted while the
+     * migration runs are still covered.
+     */
+    private Flux<Document> planPartitions(ItemMigration migration,
+                                          MongoCollection<Document> items,
+                                          MongoCollection<Document> checkpoints) {
+        return Flux.fromIterable(ID_TYPES)
+                .concatMap(idType -> Flux.from(items.aggregate(Arrays.asList(
+                        Aggregates.match(Filters.type(ID, idType)),
+                        Aggregates.bucketAuto("$" + ID, migrationProperties.getPartitions()))))
+                        .map(bucket -> ((Document) bucket.get(ID)).get("min"))
+                        .collectList()
+                        .flatMapIterable(lowerBounds -> partitions(migration, idType, lowerBounds)))
+                .collectList()
+                .filter(partitions -> !partitions.isEmpty())
+                .flatMapMany(partitions -> Mono.from(checkpoints.insertMany(partitions)).thenMany(Flux.fromIterable(partitions)));
+    }
+
+    private List<Document> partitions(ItemMigration migration, BsonType idType, List<Object> lowerBounds) {
+        List<Document> partitions = new ArrayList<>(lowerBounds.size());
+        for (int i = 0; i < lowerBounds.size(); i++) {
+            partitions.add(new Document(ID, migration.name() + ":" + idType + ":" + i)
+                    .append(MIGRATION, migration.name())
+                    .append(ID_TYPE, idType.name())
+                    .append(LOWER, i == 0 ? null : lowerBounds.get(i))
+                    .append(UPPER, i == lowerBounds.size() - 1 ? null : lowerBounds.get(i + 1))
+                    .append(LAST_ID, null)
+                    .append(MIGRATED, 0L)
+                    .append(SKIPPED, 0L)
+                    .append(COMPLETED, false));
+        }
+        return partitions;
+    }
+
+    private Mono<Document> migratePartition(ItemMigration migration,
+                                        MongoCollection<Document> items,
+                                        MongoCollection<Document> checkpoints,
+                                        Document checkpoint) {
+        return migrateBatch(migration, items, checkpoints, checkpoint)
+                .expand(current -> current.getBoolean(COMPLETED)
+                        ? Mono.empty()
+                        : migrateBatch(migration, items, checkpoints, current))
+                .last();
+    }
+
+    private Mono<Document> migrateBatch(ItemMigration migration,
+                                        MongoCollection<Document> items,
+                                        MongoCollection<Document> checkpoints,
+                                        Document checkpoint) {
+        int batchSize = migrationProperties.getBatchSize();
+        return Flux.from(items.find(Filters.and(range(checkpoint), migration.filter()))
+                .sort(Sorts.ascending(ID))
+                .limit(batchSize))
+                .collectList()
+                .flatMap(batch -> {
+                    if (batch.isEmpty()) {
+                        return advance(checkpoints, checkpoint, checkpoint.get(LAST_ID), 0, 0, true);
+                    }
+                    Object lastId = batch.get(batch.size() - 1).get(ID);
+                    List<WriteModel<Document>> updates = updates(migration, batch);
+                    int skipped = batch.size() - updates.size();
+                    return throttle(updates.size())
+                            .then(write(items, updates))
+                            .flatMap(modified -> advance(checkpoints, checkpoint, lastId, modified, skipped,
+                                    batch.size() < batchSize));
+                });
+    }
+
+    private Bson range(Document checkpoint) {
+        List<Bson> filters = new ArrayList<>(3);
+        filters.add(Filters.type(ID, BsonType.valueOf(checkpoint.getString(ID_TYPE))));
+        if (checkpoint.get(LAST_ID) != null) {
+            filters.add(Filters.gt(ID, checkpoint.get(LAST_ID)));
+        } else if (checkpoint.get(LOWER) != null) {
+            filters.add(Filters.gte(ID, checkpoint.get(LOWER)));
+        }
+        if (checkpoint.get(UPPER) != null) {
+            filters.add(Filters.lt(ID, checkpoint.get(UPPER)));
+        }
+        return Filters.and(filters);
+    }
+
+    /**
+     * Documents the migration cannot transform are logged and left out of the write; the range still moves past them.
+     */
+    private List<WriteModel<Document>> updates(ItemMigration migration, List<Document> batch) {
+        List<WriteModel<Document>> updates = new ArrayList<>(batch.size());
+        for (Document document : batch) {
+            Bson update = migration.transform(document);
+            if (update == null) {
+                log.warn("Migration {} skipped document {}", migration.name(), document.get(ID));
+            } else {
+                updates.add(new UpdateOneModel<>(Filters.and(Filters.eq(ID, document.get(ID)), migration.filter()), update));
+            }
+        }
+        return updates;
+    }
+
+    private Mono<Integer> write(MongoCollection<Document> items, List<WriteModel<Document>> updates) {
+        if (updates.isEmpty()) {
+            return Mono.just(0);
+        }
+        return Mono.from(items.bulkWrite(updates, new BulkWriteOptions().ordered(false)))
+                .map(BulkWriteResult::getModifiedCount);
+    }
+
+    private Mono<Document> advance(MongoCollection<Document> checkpoints,
+                                   Document checkpoint,
+                                   Object lastId,
+                                   int modified,
+                                   int skipped,
+                                   boolean completed) {
+        return Mono.from(checkpoints.findOneAndUpdate(Filters.eq(ID, checkpoint.get(ID)),
+                Updates.combine(
+                        Updates.set(LAST_ID, lastId),
+                        Updates.inc(MIGRATED, (long) modified),
+                        Updates.inc(SKIPPED, (long) skipped),
+                        Updates.set(COMPLETED, completed)),
+                new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER)));
+    }
+
+    /**
+     * Reserves a time slot for {@code operations} writes against the shared ops/sec budget and waits for it.
+     */
+    private Mono<Long> throttle(int operations) {
+        long opsPerSecond = migrationProperties.getOpsPerSecond();
+        if (opsPerSecond <= 0) {
+            return Mono.just(0L);
+        }
+        long interval = TimeUnit.SECONDS.toNanos(operations) / opsPerSecond;
+        long now = System.nanoTime();
+        long slot = Math.max(nextPermitNanos.getAndAccumulate(interval, (next, delta) -> Math.max(next, now) + delta), now);
+        return slot > now ? Mono.delay(Duration.ofNanos(slot - now)) : Mono.just(0L);
+    }
+}
@@ -0,0 +1,17 @@
+package com.reactor.migration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties("item.migration.engine")
+@Data
+public class MigrationProperties {
+
+    private int partitions = 8;
+    private int parallelism = 4;
+    private int batchSize = 500;
+    private long opsPerSecond = 1000;
+
+}
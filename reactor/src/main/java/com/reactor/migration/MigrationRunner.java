@@ -0,0 +1,29 @@
+package com.reactor.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+@Component
+@Profile("!test & !cds")
+@Slf4j
+public class MigrationRunner implements CommandLineRunner {
+
+    private final ObjectProvider<ItemMigration> itemMigrations;
+    private final MigrationEngine migrationEngine;
+
+    public MigrationRunner(ObjectProvider<ItemMigration> itemMigrations, MigrationEngine migrationEngine) {
+        this.itemMigrations = itemMigrations;
+        this.migrationEngine = migrationEngine;
+    }
+
+    @Override
+    public void run(String... args) {
+        Flux.fromStream(itemMigrations.orderedStream())
+                .concatMap(migrationEngine::run)
+                .subscribe(migrated -> { }, error -> log.error("Migration failed", error));
+    }
+}
@@ -0,0 +1,43 @@
+package com.reactor.migration;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Rewrites prices persisted as strings into BSON Decimal128. Strings that are not a number Decimal128 can hold are
+ * skipped and keep their value.
+ * The capped feed collection is not migrated: capped documents cannot grow in place.
+ */
+@Component
+@ConditionalOnProperty(name = "item.migration.price-decimal128", havingValue = "true")
+public class PriceDecimal128Migration implements ItemMigration {
+
+    private static final String PRICE = "price";
+
+    @Override
+    public String name() {
+        return "price-decimal128";
+    }
+
+    @Override
+    public Bson filter() {
+        return Filters.type(PRICE, BsonType.STRING);
+    }
+
+    @Override
+    public Bson transform(Document document) {
+        try {
+            return Updates.set(PRICE, new Decimal128(new BigDecimal(document.getString(PRICE).trim())));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -5,9 +5,13 @@ import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
+import java.math.BigDecimal;
+
 @Repository
 public interface ItemReactiveRepository extends ReactiveMongoRepository<Item, String> {
 
     Flux<Item> findByDescriptionContaining(String description);
 
+    Flux<Item> findByPriceBetween(BigDecimal from, BigDecimal to);
+
 }
@@ -18,6 +18,7 @@ public class ItemsRouter {
     public RouterFunction<ServerResponse> itemsRoute(ItemsHandler itemsHandler) {
         return RouterFunctions
                 .route(GET("/v1/fun/items").and(accept(MediaType.APPLICATION_JSON)), itemsHandler::getAllItems)
+                .andRoute(GET("/v1/fun/items").and(accept(MediaType.APPLICATION_STREAM_JSON)), itemsHandler::streamAllItems)
                 .andRoute(GET("/v1/fun/items/{id}").and(accept(MediaType.APPLICATION_JSON)), itemsHandler::getOneItem)
                 .andRoute(POST("/v1/fun/items").and(accept(MediaType.APPLICATION_JSON)), itemsHandler::save)
                 .andRoute(DELETE("/v1/fun/items/{id}").and(accept(MediaType.APPLICATION_JSON)), itemsHandler::delete)
@@ -33,6 +34,7 @@ public class ItemsRouter {
     @Bean
     public RouterFunction<ServerResponse> itemsStreamRoute(ItemsHandler itemsHandler) {
         return RouterFunctions
-                .route(GET("/v1/fun/stream/items").and(accept(MediaType.APPLICATION_JSON)), itemsHandler::getAllItemsStream);
+                .route(GET("/v1/fun/stream/items").and(accept(MediaType.APPLICATION_JSON)), itemsHandler::getAllItemsStream)
+                .andRoute(GET("/v1/fun/stream/items").and(accept(MediaType.TEXT_EVENT_STREAM)), itemsHandler::getAllItemsEventStream);
     }
 }
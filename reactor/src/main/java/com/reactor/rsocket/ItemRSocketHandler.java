@@ -0,0 +1,119 @@
+package com.reactor.rsocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reactor.document.Item;
+import com.reactor.lifecycle.GracefulDrain;
+import com.reactor.service.ItemService;
+import com.reactor.stream.ItemFeed;
+import com.reactor.stream.ItemStreamFilter;
+import io.rsocket.AbstractRSocket;
+import io.rsocket.Payload;
+import io.rsocket.util.DefaultPayload;
+import org.reactivestreams.Publisher;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+/**
+ * Item operations over RSocket. The route travels as UTF-8 metadata and items as JSON data; ids are sent as plain
+ * text. Request-channel only serves bulk ingestion, so its payloads carry items without a route.
+ */
+@Component
+public class ItemRSocketHandler extends AbstractRSocket {
+
+    public static final String ITEM_GET = "item.get";
+    public static final String ITEM_SAVE = "item.save";
+    public static final String ITEM_UPDATE = "item.update";
+    public static final String ITEM_DELETE = "item.delete";
+    public static final String ITEMS_LIST = "items.list";
+    public static final String ITEMS_FEED = "items.feed";
+
+    private final ItemService itemService;
+    private final ItemFeed itemFeed;
+    private final RSocketProperties rSocketProperties;
+    private final ObjectMapper objectMapper;
+    private final GracefulDrain gracefulDrain;
+
+    public ItemRSocketHandler(ItemService itemService,
+                              ItemFeed itemFeed,
+                              RSocketProperties rSocketProperties,
+                              ObjectMapper objectMapper,
+                              GracefulDrain gracefulDrain) {
+        this.itemService = itemService;
+        this.itemFeed = itemFeed;
+        this.rSocketProperties = rSocketProperties;
+        this.objectMapper = objectMapper;
+        this.gracefulDrain = gracefulDrain;
+    }
+
+    @Override
+    public Mono<Payload> requestResponse(Payload payload) {
+        String route = payload.getMetadataUtf8();
+        String data = payload.getDataUtf8();
+        switch (route) {
+            case ITEM_GET:
+                return itemService.findById(data)
+                        .map(this::toPayload);
+            case ITEM_SAVE:
+                return Mono.fromCallable(() -> read(data, Item.class))
+                        .flatMap(itemService::save)
+                        .map(this::toPayload);
+            case ITEM_UPDATE:
+                return Mono.fromCallable(() -> read(data, Item.class))
+                        .flatMap(item -> itemService.update(item.getId(), item))
+                        .map(this::toPayload);
+            case ITEM_DELETE:
+                return itemService.delete(data)
+                        .then(Mono.empty());
+            default:
+                return Mono.error(new IllegalArgumentException("Unknown request-response route: " + route));
+        }
+    }
+
+    /**
+     * Subscriber demand crosses the wire as REQUEST_N frames, so both streams are pulled from Mongo as consumed.
+     */
+    @Override
+    public Flux<Payload> requestStream(Payload payload) {
+        String route = payload.getMetadataUtf8();
+        switch (route) {
+            case ITEMS_LIST:
+                return itemService.findAll()
+                        .map(this::toPayload);
+            case ITEMS_FEED:
+                String data = payload.getDataUtf8();
+                return gracefulDrain.stream(Mono.fromCallable(() -> data.isEmpty() ? new ItemStreamFilter() : read(data, ItemStreamFilter.class))
+                        .flatMapMany(itemFeed::tail)
+                        .map(this::toPayload));
+            default:
+                return Flux.error(new IllegalArgumentException("Unknown request-stream route: " + route));
+        }
+    }
+
+    @Override
+    public Flux<Payload> requestChannel(Publisher<Payload> payloads) {
+        return Flux.from(payloads)
+                .map(payload -> read(payload.getDataUtf8(), Item.class))
+                .flatMap(itemService::save, rSocketProperties.getIngestConcurrency())
+                .map(this::toPayload);
+    }
+
+    private <T> T read(String data, Class<T> type) {
+        try {
+            return objectMapper.readValue(data, type);
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private Payload toPayload(Object value) {
+        try {
+            return DefaultPayload.create(objectMapper.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+}
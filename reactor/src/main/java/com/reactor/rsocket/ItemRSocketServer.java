@@ -0,0 +1,88 @@
+package com.reactor.rsocket;
+
+import io.rsocket.RSocketFactory;
+import io.rsocket.SocketAcceptor;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import io.rsocket.transport.netty.server.WebsocketServerTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.reactive.ReactorResourceFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.tcp.TcpServer;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Binds the RSocket TCP and WebSocket transports on the same event loops as the HTTP server.
+ */
+@Component
+@ConditionalOnProperty(value = "item.rsocket.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ItemRSocketServer implements InitializingBean, DisposableBean {
+
+    private final RSocketProperties rSocketProperties;
+    private final ItemRSocketHandler itemRSocketHandler;
+    private final ReactorResourceFactory reactorResourceFactory;
+    private CloseableChannel tcpChannel;
+    private CloseableChannel websocketChannel;
+
+    public ItemRSocketServer(RSocketProperties rSocketProperties,
+                             ItemRSocketHandler itemRSocketHandler,
+                             ReactorResourceFactory reactorResourceFactory) {
+        this.rSocketProperties = rSocketProperties;
+        this.itemRSocketHandler = itemRSocketHandler;
+        this.reactorResourceFactory = reactorResourceFactory;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        SocketAcceptor acceptor = (setup, sendingSocket) -> Mono.just(itemRSocketHandler);
+        if (rSocketProperties.getTcpPort() >= 0) {
+            TcpServer tcpServer = TcpServer.create()
+                    .host(rSocketProperties.getHost())
+                    .port(rSocketProperties.getTcpPort())
+                    .runOn(reactorResourceFactory.getLoopResources());
+            tcpChannel = RSocketFactory.receive()
+                    .acceptor(acceptor)
+                    .transport(TcpServerTransport.create(tcpServer))
+                    .start()
+                    .block();
+            log.info("RSocket TCP transport listening on {}", tcpChannel.address());
+        }
+        if (rSocketProperties.getWebsocketPort() >= 0) {
+            HttpServer httpServer = HttpServer.create()
+                    .host(rSocketProperties.getHost())
+                    .port(rSocketProperties.getWebsocketPort())
+                    .tcpConfiguration(server -> server.runOn(reactorResourceFactory.getLoopResources()));
+            websocketChannel = RSocketFactory.receive()
+                    .acceptor(acceptor)
+                    .transport(WebsocketServerTransport.create(httpServer))
+                    .start()
+                    .block();
+            log.info("RSocket WebSocket transport listening on {}", websocketChannel.address());
+        }
+    }
+
+    public InetSocketAddress getTcpAddress() {
+        return tcpChannel == null ? null : tcpChannel.address();
+    }
+
+    public InetSocketAddress getWebsocketAddress() {
+        return websocketChannel == null ? null : websocketChannel.address();
+    }
+
+    @Override
+    public void destroy() {
+        if (tcpChannel != null) {
+            tcpChannel.dispose();
+        }
+        if (websocketChannel != null) {
+            websocketChannel.dispose();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.reactor.rsocket;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * RSocket transports of the item service. A negative port disables the transport, 0 binds an ephemeral port.
+ */
+@Component
+@ConfigurationProperties("item.rsocket")
+@Data
+public class RSocketProperties {
+
+    private boolean enabled = true;
+    private String host = "0.0.0.0";
+    private int tcpPort = 7000;
+    private int websocketPort = 7001;
+    /**
+     * Saves in flight per request-channel ingestion.
+     */
+    private int ingestConcurrency = 32;
+
+}
@@ -0,0 +1,140 @@
+package com.reactor.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples the stacks of non-blocking threads (event loops, timer and parallel schedulers) and reports threads
+ * found blocked outside their idle wait for longer than the threshold, with the frame that blocked.
+ * Works on any JDK without an agent, at the cost of missing blocking calls shorter than the sampling interval.
+ * Nothing depends on it, so it is kept eager to start sampling with the application.
+ */
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "item.schedulers.blocking-detection.enabled", havingValue = "true")
+@Slf4j
+public class BlockingCallDetector implements DisposableBean {
+
+    private static final List<String> BLOCKING_FRAMES = Arrays.asList(
+            "java.lang.Thread.sleep",
+            "java.lang.Object.wait",
+            "sun.misc.Unsafe.park",
+            "jdk.internal.misc.Unsafe.park",
+            "java.net.SocketInputStream.socketRead0",
+            "java.io.FileInputStream.readBytes",
+            "java.io.FileOutputStream.writeBytes");
+    private static final List<String> IDLE_FRAMES = Arrays.asList(
+            "java.util.concurrent.ThreadPoolExecutor.getTask",
+            "io.netty.channel.epoll.Native.epollWait",
+            "io.netty.channel.kqueue.Native.keventWait",
+            "sun.nio.ch.SelectorImpl.select",
+            "sun.nio.ch.SelectorImpl.lockAndDoSelect",
+            "io.netty.util.concurrent.SingleThreadEventExecutor.takeTask");
+
+    private final SchedulerProperties.BlockingDetection blockingDetection;
+    private final ScheduledExecutorService sampler;
+    private final Map<Long, Long> blockedSince = new HashMap<>();
+    private final Set<Long> reported = new HashSet<>();
+    private final Map<String, AtomicLong> detections = new ConcurrentHashMap<>();
+
+    public BlockingCallDetector(SchedulerProperties schedulerProperties) {
+        this.blockingDetection = schedulerProperties.getBlockingDetection();
+        this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "blocking-call-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = blockingDetection.getInterval().toMillis();
+        sampler.scheduleAtFixedRate(this::sample, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Blocking locations (the first non JDK frame) and how often each was reported.
+     */
+    public Map<String, Long> getDetections() {
+        Map<String, Long> snapshot = new HashMap<>();
+        detections.forEach((location, count) -> snapshot.put(location, count.get()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    @Override
+    public void destroy() {
+        sampler.shutdownNow();
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        Set<Long> blocked = new HashSet<>();
+        Thread.getAllStackTraces().forEach((thread, stack) -> {
+            if (!isNonBlocking(thread) || !isBlocked(stack)) {
+                return;
+            }
+            blocked.add(thread.getId());
+            long since = blockedSince.computeIfAbsent(thread.getId(), id -> now);
+            if (now - since >= blockingDetection.getThreshold().toNanos() && reported.add(thread.getId())) {
+                report(thread, stack);
+            }
+        });
+        blockedSince.keySet().retainAll(blocked);
+        reported.retainAll(blocked);
+    }
+
+    private boolean isNonBlocking(Thread thread) {
+        for (String prefix : blockingDetection.getThreadPrefixes()) {
+            if (thread.getName().startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isBlocked(StackTraceElement[] stack) {
+        if (stack.length == 0 || !matches(stack[0], BLOCKING_FRAMES)) {
+            return false;
+        }
+        for (StackTraceElement frame : stack) {
+            if (matches(frame, IDLE_FRAMES)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(StackTraceElement frame, List<String> frames) {
+        return frames.contains(frame.getClassName() + "." + frame.getMethodName());
+    }
+
+    private void report(Thread thread, StackTraceElement[] stack) {
+        String location = location(stack);
+        detections.computeIfAbsent(location, key -> new AtomicLong()).incrementAndGet();
+        Throwable trace = new Throwable("Blocking call on non-blocking thread " + thread.getName());
+        trace.setStackTrace(stack);
+        log.warn("Blocking call detected at {}", location, trace);
+    }
+
+    private String location(StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack) {
+            if (!frame.getClassName().startsWith("java.") && !frame.getClassName().startsWith("sun.")
+                    && !frame.getClassName().startsWith("jdk.")) {
+                return frame.toString();
+            }
+        }
+        return stack[0].toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.reactor.scheduler;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Named schedulers, so each kind of work runs on threads sized for it: {@link #timer()} for periodic signals and
+ * one scheduler per configured workload for blocking calls. A saturated bounded workload rejects work instead of
+ * growing, which surfaces as a {@link java.util.concurrent.RejectedExecutionException} in the pipeline; a virtual
+ * workload relies on the integration's own limits (e.g. its connection pool).
+ */
+@Component
+public class ItemSchedulers implements DisposableBean {
+
+    public static final String TIMER_THREAD_PREFIX = "item-timer";
+
+    private final Scheduler timer;
+    private final Map<String, Scheduler> workloads = new HashMap<>();
+
+    public ItemSchedulers(SchedulerProperties schedulerProperties) {
+        this.timer = Schedulers.newParallel(TIMER_THREAD_PREFIX, schedulerProperties.getTimerThreads(), true);
+        schedulerProperties.getWorkloads().forEach((name, workload) ->
+                workloads.put(name, WorkloadSchedulers.create(name, workload)));
+    }
+
+    public Scheduler timer() {
+        return timer;
+    }
+
+    public Scheduler workload(String name) {
+        Scheduler scheduler = workloads.get(name);
+        if (scheduler == null) {
+            throw new IllegalArgumentException("No scheduler configured for workload " + name);
+        }
+        return scheduler;
+    }
+
+    @Override
+    public void destroy() {
+        timer.dispose();
+        workloads.values().forEach(Scheduler::dispose);
+    }
+}
@@ -0,0 +1,21 @@
+package com.reactor.scheduler;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorResourceFactory;
+import reactor.netty.resources.LoopResources;
+
+@Configuration
+public class SchedulerConfig {
+
+    @Bean
+    public ReactorResourceFactory reactorResourceFactory(SchedulerProperties schedulerProperties) {
+        ReactorResourceFactory reactorResourceFactory = new ReactorResourceFactory();
+        if (schedulerProperties.getEventLoopThreads() > 0) {
+            reactorResourceFactory.setUseGlobalResources(false);
+            reactorResourceFactory.setLoopResourcesSupplier(() ->
+                    LoopResources.create("item-http", schedulerProperties.getEventLoopThreads(), true));
+        }
+        return reactorResourceFactory;
+    }
+}
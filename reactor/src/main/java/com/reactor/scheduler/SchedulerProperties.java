@@ -0,0 +1,48 @@
+package com.reactor.scheduler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties("item.schedulers")
+@Data
+public class SchedulerProperties {
+
+    /**
+     * Netty event loop threads for the HTTP server and WebClient; 0 keeps Reactor Netty's default.
+     */
+    private int eventLoopThreads;
+    private int timerThreads = 1;
+    private Map<String, Workload> workloads = new HashMap<>();
+    private BlockingDetection blockingDetection = new BlockingDetection();
+
+    @Data
+    public static class Workload {
+
+        private WorkloadMode mode = WorkloadMode.BOUNDED;
+        private int threads = 4;
+        private int queueCapacity = 1000;
+
+    }
+
+    @Data
+    public static class BlockingDetection {
+
+        private boolean enabled;
+        private Duration interval = Duration.ofMillis(50);
+        /**
+         * A thread seen blocked in consecutive samples spanning this long is reported.
+         */
+        private Duration threshold = Duration.ofMillis(100);
+        private List<String> threadPrefixes = new ArrayList<>(Arrays.asList("reactor-http", "item-http", "item-timer", "parallel"));
+
+    }
+}
@@ -0,0 +1,14 @@
+package com.reactor.scheduler;
+
+public enum WorkloadMode {
+
+    /**
+     * Fixed platform thread pool with a bounded queue.
+     */
+    BOUNDED,
+    /**
+     * One virtual thread per task; requires a JDK with virtual threads (21+), startup fails without them.
+     */
+    VIRTUAL
+
+}
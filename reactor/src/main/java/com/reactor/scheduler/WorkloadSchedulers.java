@@ -0,0 +1,56 @@
+package com.reactor.scheduler;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the scheduler of a blocking workload. Virtual threads are looked up reflectively so the code still
+ * targets Java 8; asking for them on an older JDK fails rather than quietly running on a different pool.
+ */
+public final class WorkloadSchedulers {
+
+    private WorkloadSchedulers() {
+    }
+
+    public static Scheduler create(String name, SchedulerProperties.Workload workload) {
+        if (workload.getMode() == WorkloadMode.VIRTUAL) {
+            ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+            if (virtualThreads == null) {
+                throw new IllegalStateException("Workload " + name + " is configured for virtual threads, which Java "
+                        + System.getProperty("java.version") + " does not have; use BOUNDED or run on Java 21+");
+            }
+            return Schedulers.fromExecutorService(virtualThreads);
+        }
+        return Schedulers.fromExecutorService(new ThreadPoolExecutor(workload.getThreads(), workload.getThreads(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workload.getQueueCapacity()),
+                threadFactory("item-" + name)));
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
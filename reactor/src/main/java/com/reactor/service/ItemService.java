@@ -0,0 +1,96 @@
+package com.reactor.service;
+
+import com.reactor.document.Item;
+import com.reactor.invalidation.ItemInvalidationPublisher;
+import com.reactor.lifecycle.GracefulDrain;
+import com.reactor.repository.ItemReactiveRepository;
+import com.reactor.tracing.Tracer;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Item operations behind the annotated, functional and RSocket entry points. Writes publish invalidations here so
+ * no entry point can skip them. Every Mongo call is a client span of the request trace, and find queries carry the
+ * span's traceparent as their {@code $comment} so they can be matched in the Mongo profiler and slow query log.
+ * Writes are counted by {@link GracefulDrain} so shutdown waits for them.
+ */
+@Service
+public class ItemService {
+
+    private static final FindAndModifyOptions RETURN_NEW = FindAndModifyOptions.options().returnNew(true);
+
+    private final ItemReactiveRepository itemReactiveRepository;
+    private final ReactiveMongoOperations reactiveMongoOperations;
+    private final ItemInvalidationPublisher itemInvalidationPublisher;
+    private final Tracer tracer;
+    private final GracefulDrain gracefulDrain;
+
+    public ItemService(ItemReactiveRepository itemReactiveRepository,
+                       ReactiveMongoOperations reactiveMongoOperations,
+                       ItemInvalidationPublisher itemInvalidationPublisher,
+                       Tracer tracer,
+                       GracefulDrain gracefulDrain) {
+        this.itemReactiveRepository = itemReactiveRepository;
+        this.reactiveMongoOperations = reactiveMongoOperations;
+        this.itemInvalidationPublisher = itemInvalidationPublisher;
+        this.tracer = tracer;
+        this.gracefulDrain = gracefulDrain;
+    }
+
+    public Flux<Item> findAll() {
+        return tracer.flux("mongo find item", traceparent ->
+                reactiveMongoOperations.find(commented(new Query(), traceparent), Item.class));
+    }
+
+    public Mono<List<Item>> list() {
+        return findAll().collectList();
+    }
+
+    public Mono<Item> findById(String id) {
+        return tracer.mono("mongo findOne item", traceparent ->
+                reactiveMongoOperations.findOne(commented(byId(id), traceparent), Item.class));
+    }
+
+    public Mono<Item> save(Item item) {
+        return tracer.mono("mongo save item", traceparent -> itemReactiveRepository.save(item))
+                .transform(gracefulDrain::write)
+                .doOnNext(savedItem -> itemInvalidationPublisher.saved(savedItem.getId()));
+    }
+
+    /**
+     * A single findAndModify round trip instead of a read followed by a full document save; empty when the id does
+     * not exist.
+     */
+    public Mono<Item> update(String id, Item item) {
+        return tracer.mono("mongo findAndModify item", traceparent -> reactiveMongoOperations.findAndModify(byId(id),
+                new Update().set("description", item.getDescription()).set("price", item.getPrice()),
+                RETURN_NEW, Item.class))
+                .transform(gracefulDrain::write)
+                .doOnNext(updatedItem -> itemInvalidationPublisher.updated(updatedItem.getId()));
+    }
+
+    public Mono<Void> delete(String id) {
+        return tracer.mono("mongo delete item", traceparent -> itemReactiveRepository.deleteById(id))
+                .transform(gracefulDrain::write)
+                .doOnSuccess(deleted -> itemInvalidationPublisher.deleted(id));
+    }
+
+    private static Query byId(String id) {
+        return Query.query(Criteria.where("id").is(id));
+    }
+
+    private static Query commented(Query query, String traceparent) {
+        if (traceparent != null) {
+            query.getMeta().setComment(traceparent);
+        }
+        return query;
+    }
+}
@@ -0,0 +1,27 @@
+package com.reactor.startup;
+
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+
+/**
+ * Times each bean from just before instantiation until it is fully initialized.
+ */
+class BeanTimingPostProcessor implements InstantiationAwareBeanPostProcessor {
+
+    private final StartupTimeline timeline;
+
+    BeanTimingPostProcessor(StartupTimeline timeline) {
+        this.timeline = timeline;
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
+        timeline.beanStarted(beanName);
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        timeline.beanFinished(beanName);
+        return bean;
+    }
+}
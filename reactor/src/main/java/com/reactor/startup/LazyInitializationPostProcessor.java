@@ -0,0 +1,70 @@
+package com.reactor.startup;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.server.WebExceptionHandler;
+import org.springframework.web.server.WebFilter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Marks the application's own scanned components lazy, so beans nothing needs at startup (controllers are resolved
+ * by name on their first request) are created on first use. Boot 2.1 has no global lazy initialization, and making
+ * framework beans lazy is not safe, so only {@code com.reactor} components are considered. These stay eager:
+ * configuration classes and {@code @Bean} methods, {@code @ConfigurationProperties} so bad settings still fail the
+ * start, anything annotated {@link Lazy}, and the types whose creation starts work or that Spring looks up at startup
+ * anyway.
+ */
+class LazyInitializationPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final String BASE_PACKAGE = "com.reactor.";
+    private static final List<Class<?>> EAGER_TYPES = Arrays.asList(
+            InitializingBean.class,
+            SmartLifecycle.class,
+            CommandLineRunner.class,
+            ApplicationRunner.class,
+            ApplicationListener.class,
+            WebFilter.class,
+            WebExceptionHandler.class,
+            BeanPostProcessor.class,
+            BeanFactoryPostProcessor.class);
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition instanceof AnnotatedBeanDefinition
+                    && isLazyCandidate((AnnotatedBeanDefinition) definition, beanFactory.getBeanClassLoader())) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    private boolean isLazyCandidate(AnnotatedBeanDefinition definition, ClassLoader classLoader) {
+        AnnotationMetadata metadata = definition.getMetadata();
+        if (definition.getFactoryMethodMetadata() != null
+                || !definition.isSingleton()
+                || !metadata.getClassName().startsWith(BASE_PACKAGE)
+                || metadata.isAnnotated(Configuration.class.getName())
+                || metadata.isAnnotated(ConfigurationProperties.class.getName())
+                || metadata.isAnnotated(Lazy.class.getName())) {
+            return false;
+        }
+        Class<?> type = ClassUtils.resolveClassName(metadata.getClassName(), classLoader);
+        return EAGER_TYPES.stream().noneMatch(eagerType -> eagerType.isAssignableFrom(type));
+    }
+}
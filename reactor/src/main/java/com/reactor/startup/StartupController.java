@@ -0,0 +1,30 @@
+package com.reactor.startup;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+public class StartupController {
+
+    private final StartupTimeline startupTimeline;
+    private final StartupProperties startupProperties;
+
+    public StartupController(@Qualifier(StartupRunListener.TIMELINE_BEAN) StartupTimeline startupTimeline,
+                             StartupProperties startupProperties) {
+        this.startupTimeline = startupTimeline;
+        this.startupProperties = startupProperties;
+    }
+
+    @GetMapping("/v1/admin/startup")
+    public Map<String, Object> startup() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("phases", startupTimeline.getPhases());
+        report.put("beanCount", startupTimeline.getBeanCount());
+        report.put("slowestBeans", startupTimeline.getSlowestBeans(startupProperties.getReportTopBeans()));
+        return report;
+    }
+}
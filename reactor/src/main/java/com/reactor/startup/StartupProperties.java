@@ -0,0 +1,28 @@
+package com.reactor.startup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Startup tuning and reporting. Read from the environment by {@link StartupRunListener} before the context
+ * refreshes, so changes apply to the next start.
+ */
+@Component
+@ConfigurationProperties(StartupProperties.PREFIX)
+@Data
+public class StartupProperties {
+
+    public static final String PREFIX = "item.startup";
+
+    /**
+     * Create the application's own components on first use; see {@link LazyInitializationPostProcessor}.
+     */
+    private boolean lazyInitialization = true;
+    private int reportTopBeans = 15;
+    /**
+     * Exit as soon as the application is ready; used by the CDS training run.
+     */
+    private boolean exitAfterStart = false;
+
+}
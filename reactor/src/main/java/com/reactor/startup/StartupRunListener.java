@@ -0,0 +1,92 @@
+package com.reactor.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringApplicationRunListener;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerInitializedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Records the startup phases and bean creation times into a {@link StartupTimeline}, registered as a bean for
+ * {@link StartupController}, and logs the report once the application is ready. Also installs
+ * {@link LazyInitializationPostProcessor} when enabled. Registered in {@code META-INF/spring.factories}.
+ */
+@Slf4j
+public class StartupRunListener implements SpringApplicationRunListener, Ordered {
+
+    public static final String TIMELINE_BEAN = "startupTimeline";
+
+    private final StartupTimeline timeline = new StartupTimeline();
+    private StartupProperties startupProperties = new StartupProperties();
+
+    public StartupRunListener(SpringApplication application, String[] args) {
+    }
+
+    @Override
+    public void starting() {
+        timeline.phase("starting");
+    }
+
+    @Override
+    public void environmentPrepared(ConfigurableEnvironment environment) {
+        timeline.phase("environmentPrepared");
+        startupProperties = Binder.get(environment)
+                .bind(StartupProperties.PREFIX, StartupProperties.class)
+                .orElseGet(StartupProperties::new);
+    }
+
+    @Override
+    public void contextPrepared(ConfigurableApplicationContext context) {
+        timeline.phase("contextPrepared");
+        context.getBeanFactory().registerSingleton(TIMELINE_BEAN, timeline);
+        context.getBeanFactory().addBeanPostProcessor(new BeanTimingPostProcessor(timeline));
+        if (startupProperties.isLazyInitialization()) {
+            context.addBeanFactoryPostProcessor(new LazyInitializationPostProcessor());
+        }
+        context.addApplicationListener((ApplicationListener<ApplicationEvent>) event -> {
+            if (event instanceof ContextRefreshedEvent) {
+                timeline.phase("contextRefreshed");
+            } else if (event instanceof ReactiveWebServerInitializedEvent) {
+                timeline.phase("webServerStarted");
+            }
+        });
+    }
+
+    @Override
+    public void contextLoaded(ConfigurableApplicationContext context) {
+        timeline.phase("contextLoaded");
+    }
+
+    @Override
+    public void started(ConfigurableApplicationContext context) {
+        timeline.phase("started");
+    }
+
+    @Override
+    public void running(ConfigurableApplicationContext context) {
+        timeline.phase("ready");
+        timeline.stopRecording();
+        log.info("Ready {} ms after JVM start with {} beans timed; phases (ms since JVM start) {}; " +
+                        "slowest beans (us, including dependencies) {}",
+                timeline.getPhases().get("ready"), timeline.getBeanCount(), timeline.getPhases(),
+                timeline.getSlowestBeans(startupProperties.getReportTopBeans()));
+        if (startupProperties.isExitAfterStart()) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    @Override
+    public void failed(ConfigurableApplicationContext context, Throwable exception) {
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,61 @@
+package com.reactor.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup phases, in milliseconds since the JVM started, and per bean creation times in microseconds. A bean's
+ * time includes the creation of the dependencies it pulled in.
+ */
+public class StartupTimeline {
+
+    private final Map<String, Long> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, Long> beanStarts = new ConcurrentHashMap<>();
+    private final Map<String, Long> beanMicros = new ConcurrentHashMap<>();
+    private volatile boolean recording = true;
+
+    public void phase(String name) {
+        phases.putIfAbsent(name, ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    void beanStarted(String beanName) {
+        if (recording) {
+            beanStarts.putIfAbsent(beanName, System.nanoTime());
+        }
+    }
+
+    void beanFinished(String beanName) {
+        Long start = beanStarts.remove(beanName);
+        if (start != null) {
+            beanMicros.put(beanName, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+    }
+
+    void stopRecording() {
+        recording = false;
+        beanStarts.clear();
+    }
+
+    public Map<String, Long> getPhases() {
+        synchronized (phases) {
+            return new LinkedHashMap<>(phases);
+        }
+    }
+
+    public Map<String, Long> getSlowestBeans(int limit) {
+        Map<String, Long> slowest = new LinkedHashMap<>();
+        beanMicros.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .forEach(entry -> slowest.put(entry.getKey(), entry.getValue()));
+        return slowest;
+    }
+
+    public int getBeanCount() {
+        return beanMicros.size();
+    }
+}
@@ -0,0 +1,93 @@
+package com.reactor.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Provisions the feed collections. A collection already capped with the configured sizes is kept, so the feed
+ * history survives restarts; any other is dropped and recreated. Startup provisioning runs once in the background,
+ * retrying until Mongo answers; {@link #provisioned()} completes when it is done so seeding, tests and readiness can
+ * wait for it instead of racing it.
+ */
+@Component
+@Slf4j
+public class FeedCollections {
+
+    private final ReactiveMongoOperations reactiveMongoOperations;
+    private final FeedProperties feedProperties;
+    private final MonoProcessor<Void> provisioned = MonoProcessor.create();
+    private final AtomicBoolean provisioning = new AtomicBoolean();
+
+    public FeedCollections(ReactiveMongoOperations reactiveMongoOperations, FeedProperties feedProperties) {
+        this.reactiveMongoOperations = reactiveMongoOperations;
+        this.feedProperties = feedProperties;
+    }
+
+    public Mono<Void> provision() {
+        if (provisioning.compareAndSet(false, true)) {
+            ensure().doOnError(error -> log.warn("Feed collection provisioning failed, retrying: {}", error.toString()))
+                    .retryBackoff(Long.MAX_VALUE, Duration.ofSeconds(1), Duration.ofSeconds(30))
+                    .subscribe(provisioned);
+        }
+        return provisioned;
+    }
+
+    public Mono<Void> provisioned() {
+        return provisioned;
+    }
+
+    public boolean isProvisioned() {
+        return provisioned.isSuccess();
+    }
+
+    @PreDestroy
+    public void stop() {
+        provisioned.dispose();
+    }
+
+    public Mono<Void> ensure() {
+        return Flux.fromIterable(feedProperties.collectionNames())
+                .concatMap(this::ensure)
+                .then();
+    }
+
+    private Mono<Void> ensure(String name) {
+        return reactiveMongoOperations.execute(db -> db.listCollections().filter(new Document("name", name)).first())
+                .next()
+                .flatMap(collection -> {
+                    if (matches(collection.get("options", Document.class))) {
+                        log.info("Keeping capped collection {}", name);
+                        return Mono.just(false);
+                    }
+                    log.info("Recreating capped collection {} with max {} documents and {} bytes",
+                            name, feedProperties.getMaxDocuments(), feedProperties.getSizeBytes());
+                    return reactiveMongoOperations.dropCollection(name).thenReturn(true);
+                })
+                .defaultIfEmpty(true)
+                .filter(create -> create)
+                .flatMap(create -> reactiveMongoOperations.createCollection(name, CollectionOptions.empty()
+                        .maxDocuments(feedProperties.getMaxDocuments())
+                        .size(feedProperties.getSizeBytes())
+                        .capped()))
+                .then();
+    }
+
+    private boolean matches(Document options) {
+        return options != null
+                && options.getBoolean("capped", false)
+                && options.get("size") instanceof Number
+                && ((Number) options.get("size")).longValue() == feedProperties.storedSizeBytes()
+                && options.get("max") instanceof Number
+                && ((Number) options.get("max")).longValue() == feedProperties.getMaxDocuments();
+    }
+}
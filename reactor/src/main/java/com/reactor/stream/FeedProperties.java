@@ -0,0 +1,62 @@
+package com.reactor.stream;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Capped collections backing the item feed. With more than one partition items are spread by id hash across
+ * {@code itemCapped_0..n-1} and read back merged.
+ */
+@Component
+@ConfigurationProperties("item.feed")
+@Data
+public class FeedProperties {
+
+    public static final String COLLECTION = "itemCapped";
+
+    private long maxDocuments = 20;
+    /**
+     * mongod rounds a capped collection's size up to a multiple of 256 bytes; see {@link #storedSizeBytes()}.
+     */
+    private long sizeBytes = 50176;
+    private int partitions = 1;
+    /**
+     * Partitioned reads are reordered by id within this window before being emitted.
+     */
+    private Duration reorderWindow = Duration.ofMillis(50);
+    private int reorderMaxItems = 256;
+    /**
+     * How long a getMore on a tailable cursor waits for new documents before returning an empty batch.
+     */
+    private Duration awaitTime = Duration.ofSeconds(1);
+    /**
+     * Documents per cursor batch; 0 leaves the driver default.
+     */
+    private int batchSize;
+    private Duration resumeDelay = Duration.ofMillis(100);
+    private Duration resumeMaxBackoff = Duration.ofSeconds(5);
+
+    /**
+     * The size mongod records for {@code sizeBytes}.
+     */
+    public long storedSizeBytes() {
+        return (sizeBytes + 255) & ~255L;
+    }
+
+    public String collectionName(int partition) {
+        return partitions <= 1 ? COLLECTION : COLLECTION + "_" + partition;
+    }
+
+    public List<String> collectionNames() {
+        List<String> names = new ArrayList<>();
+        for (int partition = 0; partition < Math.max(partitions, 1); partition++) {
+            names.add(collectionName(partition));
+        }
+        return names;
+    }
+}
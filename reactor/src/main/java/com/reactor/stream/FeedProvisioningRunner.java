@@ -0,0 +1,25 @@
+package com.reactor.stream;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts feed provisioning in every profile but the CDS training run, tests included, so fixtures and readiness see
+ * the same provisioned collections production does.
+ */
+@Component
+@Profile("!cds")
+public class FeedProvisioningRunner implements CommandLineRunner {
+
+    private final FeedCollections feedCollections;
+
+    public FeedProvisioningRunner(FeedCollections feedCollections) {
+        this.feedCollections = feedCollections;
+    }
+
+    @Override
+    public void run(String... args) {
+        feedCollections.provision();
+    }
+}
@@ -0,0 +1,244 @@
+package com.reactor.stream;
+
+import com.mongodb.CursorType;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.reactor.document.ItemCapped;
+import com.reactor.jfr.StreamSubscriptionEvent;
+import com.reactor.scheduler.ItemSchedulers;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * Tailable read side of the capped item feed shared by the HTTP, WebSocket and RSocket transports.
+ */
+@Component
+@Slf4j
+public class ItemFeed {
+
+    private final ReactiveMongoOperations reactiveMongoOperations;
+    private final ItemSchedulers itemSchedulers;
+    private final FeedProperties feedProperties;
+    private final QueryMapper queryMapper;
+    private final MongoPersistentEntity<?> entity;
+    private final AtomicLong resumes = new AtomicLong();
+    private final AtomicLong gaps = new AtomicLong();
+
+    public ItemFeed(ReactiveMongoOperations reactiveMongoOperations,
+                    ItemSchedulers itemSchedulers,
+                    FeedProperties feedProperties) {
+        this.reactiveMongoOperations = reactiveMongoOperations;
+        this.itemSchedulers = itemSchedulers;
+        this.feedProperties = feedProperties;
+        this.queryMapper = new QueryMapper(reactiveMongoOperations.getConverter());
+        this.entity = reactiveMongoOperations.getConverter().getMappingContext().getRequiredPersistentEntity(ItemCapped.class);
+    }
+
+    /**
+     * The id is assigned before the insert so it can pick the partition.
+     */
+    public Mono<ItemCapped> publish(ItemCapped item) {
+        if (item.getId() == null) {
+            item.setId(new ObjectId().toHexString());
+        }
+        return reactiveMongoOperations.insert(item, feedProperties.collectionName(partition(item.getId())));
+    }
+
+    public Flux<ItemCapped> tail(ItemStreamFilter filter) {
+        return tail(filter, null);
+    }
+
+    /**
+     * Capped collection ids grow in insertion order, so {@code afterId} resumes the feed after the last item a
+     * client received. Cursors that die are reopened after the last id each partition delivered, with jittered
+     * exponential backoff while they keep failing.
+     */
+    public Flux<ItemCapped> tail(ItemStreamFilter filter, String afterId) {
+        return Flux.defer(() -> {
+            StreamSubscriptionEvent event = new StreamSubscriptionEvent();
+            if (!event.isEnabled()) {
+                return shape(resumable(filter, afterId), filter);
+            }
+            AtomicLong read = new AtomicLong();
+            AtomicLong delivered = new AtomicLong();
+            event.begin();
+            return shape(resumable(filter, afterId).doOnNext(item -> read.incrementAndGet()), filter)
+                    .doOnNext(item -> delivered.incrementAndGet())
+                    .doFinally(signal -> {
+                        event.end();
+                        if (event.shouldCommit()) {
+                            event.filter = filter.toString();
+                            event.itemsRead = read.get();
+                            event.itemsDelivered = delivered.get();
+                            event.itemsDropped = read.get() - delivered.get();
+                            event.termination = signal.toString();
+                            event.commit();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Partitions are merged and reordered by id within the reorder window. Each partition's cursor is reopened on
+     * its own, after the last id it delivered, so a partition whose cursor dies (as one does at once on an empty
+     * capped collection) is picked up again while the others keep tailing.
+     */
+    private Flux<ItemCapped> resumable(ItemStreamFilter filter, String afterId) {
+        int partitions = Math.max(feedProperties.getPartitions(), 1);
+        if (partitions == 1) {
+            return resumablePartition(filter, 0, afterId);
+        }
+        return Flux.range(0, partitions)
+                .flatMap(partition -> resumablePartition(filter, partition, afterId), partitions)
+                .bufferTimeout(feedProperties.getReorderMaxItems(), feedProperties.getReorderWindow(), itemSchedulers.timer())
+                .flatMapIterable(batch -> {
+                    batch.sort(Comparator.comparing(ItemCapped::getId));
+                    return batch;
+                });
+    }
+
+    /**
+     * A cursor that ends without delivering anything, as one on an empty capped collection does at once, backs off
+     * like a failed one. Only reopening a cursor that delivered items counts as a resume and probes for a gap: the
+     * last id of one that did not was already probed.
+     */
+    private Flux<ItemCapped> resumablePartition(ItemStreamFilter filter, int partition, String afterId) {
+        AtomicReference<String> lastId = new AtomicReference<>(afterId);
+        AtomicInteger failures = new AtomicInteger();
+        AtomicBoolean opened = new AtomicBoolean();
+        AtomicBoolean delivered = new AtomicBoolean();
+        return Flux.defer(() -> {
+            boolean reopened = opened.getAndSet(true);
+            boolean resumed = delivered.getAndSet(false);
+            if (resumed) {
+                resumes.incrementAndGet();
+            }
+            return tailPartition(filter, partition, lastId.get(), !reopened || resumed);
+        })
+                .doOnNext(item -> {
+                    lastId.set(item.getId());
+                    delivered.set(true);
+                })
+                .onErrorResume(error -> {
+                    log.warn("Tailable cursor on {} after {} failed: {}", feedProperties.collectionName(partition),
+                            lastId.get(), error.getMessage());
+                    return Flux.empty();
+                })
+                .repeatWhen(completions -> completions.concatMap(completion -> {
+                    if (delivered.get()) {
+                        failures.set(0);
+                    } else {
+                        failures.incrementAndGet();
+                    }
+                    return Mono.delay(resumeDelay(failures.get()), itemSchedulers.timer());
+                }));
+    }
+
+    private Flux<ItemCapped> shape(Flux<ItemCapped> items, ItemStreamFilter filter) {
+        if (filter.getSampleMillis() > 0) {
+            items = items.sample(Flux.interval(Duration.ofMillis(filter.getSampleMillis()), itemSchedulers.timer()));
+        }
+        if (filter.getMaxItemsPerSecond() > 0) {
+            items = items.window(Duration.ofSeconds(1), itemSchedulers.timer())
+                    .concatMap(window -> window.take(filter.getMaxItemsPerSecond()));
+        }
+        return items;
+    }
+
+    public Map<String, Long> getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("resumes", resumes.get());
+        metrics.put("gaps", gaps.get());
+        return metrics;
+    }
+
+    /**
+     * A last id no longer in its capped collection was evicted, and so may have been anything inserted after it. Only
+     * the partition holding the id can tell: a client's resume id is probed there, and the other partitions resume
+     * after it without a check until they deliver an id of their own.
+     */
+    private Flux<ItemCapped> tailPartition(ItemStreamFilter filter, int partition, String lastId, boolean probe) {
+        String collectionName = feedProperties.collectionName(partition);
+        Flux<ItemCapped> items = tail(collectionName,
+                queryMapper.getMappedObject(query(filter, lastId).getQueryObject(), entity));
+        if (!probe || lastId == null || partition(lastId) != partition) {
+            return items;
+        }
+        return reactiveMongoOperations.exists(Query.query(Criteria.where("id").is(lastId)), ItemCapped.class,
+                collectionName)
+                .doOnNext(exists -> {
+                    if (!exists) {
+                        gaps.incrementAndGet();
+                        log.warn("Item feed resumed after evicted id {} in {}, items may have been missed",
+                                lastId, collectionName);
+                    }
+                })
+                .thenMany(items);
+    }
+
+    private Flux<ItemCapped> tail(String collectionName, Document query) {
+        return reactiveMongoOperations.execute(collectionName, collection -> {
+            FindPublisher<Document> find = collection.find(query)
+                    .cursorType(CursorType.TailableAwait)
+                    .maxAwaitTime(feedProperties.getAwaitTime().toMillis(), TimeUnit.MILLISECONDS);
+            return feedProperties.getBatchSize() > 0 ? find.batchSize(feedProperties.getBatchSize()) : find;
+        }).map(document -> reactiveMongoOperations.getConverter().read(ItemCapped.class, document));
+    }
+
+    private Duration resumeDelay(int failures) {
+        long maxMillis = feedProperties.getResumeMaxBackoff().toMillis();
+        long millis = Math.min(maxMillis, feedProperties.getResumeDelay().toMillis() << Math.min(failures, 16));
+        return Duration.ofMillis(millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2 + 1));
+    }
+
+    private int partition(String id) {
+        return Math.floorMod(id.hashCode(), Math.max(feedProperties.getPartitions(), 1));
+    }
+
+    static Query query(ItemStreamFilter filter, String afterId) {
+        Query query = new Query();
+        if (afterId != null) {
+            query.addCriteria(Criteria.where("id").gt(afterId));
+        }
+        if (filter.getDescriptionPrefix() != null && filter.getDescriptionContains() != null) {
+            query.addCriteria(new Criteria().andOperator(
+                    Criteria.where("description").regex("^" + Pattern.quote(filter.getDescriptionPrefix())),
+                    Criteria.where("description").regex(Pattern.quote(filter.getDescriptionContains()))));
+        } else if (filter.getDescriptionPrefix() != null) {
+            query.addCriteria(Criteria.where("description").regex("^" + Pattern.quote(filter.getDescriptionPrefix())));
+        } else if (filter.getDescriptionContains() != null) {
+            query.addCriteria(Criteria.where("description").regex(Pattern.quote(filter.getDescriptionContains())));
+        }
+        if (filter.getMinPrice() != null || filter.getMaxPrice() != null) {
+            Criteria price = Criteria.where("price");
+            if (filter.getMinPrice() != null) {
+                price.gte(filter.getMinPrice());
+            }
+            if (filter.getMaxPrice() != null) {
+                price.lte(filter.getMaxPrice());
+            }
+            query.addCriteria(price);
+        }
+        return query;
+    }
+}
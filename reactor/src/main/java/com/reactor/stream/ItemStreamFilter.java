@@ -0,0 +1,86 @@
+package com.reactor.stream;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.math.BigDecimal;
+
+/**
+ * Subscription to the item feed. Criteria are pushed down into the tailable query and unset criteria match
+ * everything; sampling and rate capping are applied per subscriber, 0 disabling them. HTTP entry points reject
+ * filters outside the bounds below with 400.
+ */
+@Data
+@NoArgsConstructor
+public class ItemStreamFilter {
+
+    public static final long MAX_SAMPLE_MILLIS = 60_000;
+    public static final int MAX_ITEMS_PER_SECOND = 10_000;
+    public static final int MAX_DESCRIPTION_LENGTH = 100;
+
+    private String descriptionPrefix;
+    private String descriptionContains;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    /**
+     * Conflates the feed to the latest item of each window of this many milliseconds.
+     */
+    private long sampleMillis;
+    /**
+     * Items over this count within a second are dropped.
+     */
+    private int maxItemsPerSecond;
+
+    public static ItemStreamFilter fromQueryParams(MultiValueMap<String, String> queryParams) {
+        ItemStreamFilter filter = new ItemStreamFilter();
+        filter.setDescriptionPrefix(queryParams.getFirst("descriptionPrefix"));
+        filter.setDescriptionContains(queryParams.getFirst("descriptionContains"));
+        try {
+            if (queryParams.getFirst("minPrice") != null) {
+                filter.setMinPrice(new BigDecimal(queryParams.getFirst("minPrice")));
+            }
+            if (queryParams.getFirst("maxPrice") != null) {
+                filter.setMaxPrice(new BigDecimal(queryParams.getFirst("maxPrice")));
+            }
+            if (queryParams.getFirst("sampleMillis") != null) {
+                filter.setSampleMillis(Long.parseLong(queryParams.getFirst("sampleMillis")));
+            }
+            if (queryParams.getFirst("maxItemsPerSecond") != null) {
+                filter.setMaxItemsPerSecond(Integer.parseInt(queryParams.getFirst("maxItemsPerSecond")));
+            }
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("Stream filter numbers must be decimal: " + queryParams);
+        }
+        return filter.validate();
+    }
+
+    /**
+     * @return this filter when within bounds
+     * @throws ServerWebInputException naming the first criterion out of bounds
+     */
+    public ItemStreamFilter validate() {
+        if (sampleMillis < 0 || sampleMillis > MAX_SAMPLE_MILLIS) {
+            throw new ServerWebInputException("sampleMillis must be between 0 and " + MAX_SAMPLE_MILLIS);
+        }
+        if (maxItemsPerSecond < 0 || maxItemsPerSecond > MAX_ITEMS_PER_SECOND) {
+            throw new ServerWebInputException("maxItemsPerSecond must be between 0 and " + MAX_ITEMS_PER_SECOND);
+        }
+        if ((minPrice != null && minPrice.signum() < 0) || (maxPrice != null && maxPrice.signum() < 0)) {
+            throw new ServerWebInputException("Prices must not be negative");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new ServerWebInputException("minPrice must not exceed maxPrice");
+        }
+        if (tooLong(descriptionPrefix) || tooLong(descriptionContains)) {
+            throw new ServerWebInputException("Description criteria are limited to " + MAX_DESCRIPTION_LENGTH
+                    + " characters");
+        }
+        return this;
+    }
+
+    private static boolean tooLong(String value) {
+        return value != null && value.length() > MAX_DESCRIPTION_LENGTH;
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
@@ -78,6 +79,23 @@ public class ItemControllerTest {
                 });
     }
 
+    @Test
+    public void shouldStreamAllItems() {
+        Flux<Item> itemFlux = webTestClient.get()
+                .uri("/v1/items")
+                .accept(MediaType.APPLICATION_STREAM_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_STREAM_JSON)
+                .returnResult(Item.class)
+                .getResponseBody();
+
+        StepVerifier.create(itemFlux)
+                .expectSubscription()
+                .expectNextCount(4)
+                .verifyComplete();
+    }
+
     @Test
     public void shouldGetItem() {
         webTestClient.get()
@@ -101,6 +119,38 @@ public class ItemControllerTest {
                 .expectStatus().isNoContent();
     }
 
+    @Test
+    public void shouldReturnNotModifiedForMatchingETag() {
+        String eTag = webTestClient.get()
+                .uri("/v1/items/Id")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectHeader().exists(HttpHeaders.CACHE_CONTROL)
+                .returnResult(Item.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get()
+                .uri("/v1/items/Id")
+                .ifNoneMatch(eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    public void shouldCacheListWithoutETag() {
+        webTestClient.get()
+                .uri("/v1/items")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.CACHE_CONTROL)
+                .expectHeader().doesNotExist(HttpHeaders.ETAG)
+                .expectBodyList(Item.class)
+                .hasSize(4);
+    }
+
     @Test
     public void shouldSaveItem() {
         Item item = new Item(null,
@@ -183,7 +233,10 @@ public class ItemControllerTest {
                 .accept(MediaType.APPLICATION_JSON_UTF8)
                 .exchange()
                 .expectStatus().is5xxServerError()
-                .expectBody(String.class)
-                .isEqualTo("RunTimeException :o");
+                .expectHeader().contentType(MediaType.APPLICATION_JSON_UTF8)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("DEMO_FAILURE")
+                .jsonPath("$.message").isEqualTo("RunTimeException :o")
+                .jsonPath("$.status").isEqualTo(500);
     }
 }
\ No newline at end of file
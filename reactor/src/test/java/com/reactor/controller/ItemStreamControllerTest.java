@@ -1,20 +1,27 @@
 package com.reactor.controller;
 
+import com.reactor.document.Item;
 import com.reactor.document.ItemCapped;
+import com.reactor.invalidation.ItemInvalidation;
 import com.reactor.repository.ItemReactiveCappedRepository;
+import com.reactor.stream.FeedCollections;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.mongodb.core.CollectionOptions;
-import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
@@ -30,14 +37,19 @@ public class ItemStreamControllerTest {
     @Autowired
     private ItemReactiveCappedRepository itemReactiveCappedRepository;
     @Autowired
-    private MongoOperations mongoOperations;
+    private ReactiveMongoOperations reactiveMongoOperations;
+    @Autowired
+    private FeedCollections feedCollections;
     @Autowired
     private WebTestClient webTestClient;
 
     @Before
     public void setUp() throws Exception {
-        mongoOperations.dropCollection(ItemCapped.class);
-        mongoOperations.createCollection(ItemCapped.class, CollectionOptions.empty().maxDocuments(20).size(50000).capped());
+        feedCollections.provisioned().block(Duration.ofSeconds(10));
+        reactiveMongoOperations.dropCollection(ItemCapped.class)
+                .then(reactiveMongoOperations.createCollection(ItemCapped.class,
+                        CollectionOptions.empty().maxDocuments(20).size(50176).capped()))
+                .block();
 
         Flux<ItemCapped> itemCappedFlux = Flux.interval(Duration.ofMillis(100))
                 .map(i -> new ItemCapped(null, "Random Item " + i, new BigDecimal(i)))
@@ -64,4 +76,101 @@ public class ItemStreamControllerTest {
                 .thenCancel()
                 .verify();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testStreamListItemsFilteredByPrice() {
+        Flux<ItemCapped> itemCappedFlux = webTestClient.get()
+                .uri("/v1/stream/items?minPrice=2&maxPrice=3")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ItemCapped.class)
+                .getResponseBody();
+
+        StepVerifier.create(itemCappedFlux)
+                .expectSubscription()
+                .expectNextMatches(itemCapped -> itemCapped.getDescription().equals("Random Item 2"))
+                .expectNextMatches(itemCapped -> itemCapped.getDescription().equals("Random Item 3"))
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void testStreamListItemsRejectsFilterOutOfBounds() {
+        webTestClient.get()
+                .uri("/v1/stream/items?sampleMillis=-1")
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get()
+                .uri("/v1/fun/stream/items?maxItemsPerSecond=many")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testStreamListItemsCappedPerSecond() {
+        Flux<ItemCapped> itemCappedFlux = webTestClient.get()
+                .uri("/v1/stream/items?maxItemsPerSecond=2")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ItemCapped.class)
+                .getResponseBody();
+
+        StepVerifier.create(itemCappedFlux)
+                .expectSubscription()
+                .expectNextCount(2)
+                .expectNoEvent(Duration.ofMillis(500))
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void testStreamItemEventsResumesAfterLastEventId() {
+        String lastEventId = itemReactiveCappedRepository.findAll()
+                .skip(2)
+                .blockFirst()
+                .getId();
+
+        Flux<ServerSentEvent<ItemCapped>> events = webTestClient.get()
+                .uri("/v1/stream/items/events")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Last-Event-ID", lastEventId)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<ItemCapped>>() {
+                })
+                .getResponseBody();
+
+        StepVerifier.create(events)
+                .expectSubscription()
+                .expectNextMatches(event -> event.data().getDescription().equals("Random Item 3") &&
+                        event.id().equals(event.data().getId()))
+                .expectNextMatches(event -> event.data().getDescription().equals("Random Item 4"))
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void testStreamItemInvalidations() {
+        Flux<ItemInvalidation> invalidations = webTestClient.get()
+                .uri("/v1/stream/items/invalidations")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ItemInvalidation.class)
+                .getResponseBody()
+                .filter(invalidation -> invalidation.getType() != ItemInvalidation.Type.HEARTBEAT);
+
+        StepVerifier.create(invalidations)
+                .expectSubscription()
+                .then(() -> webTestClient.post()
+                        .uri("/v1/items")
+                        .contentType(MediaType.APPLICATION_JSON_UTF8)
+                        .body(Mono.just(new Item("Invalidated", "Description", BigDecimal.ONE)), Item.class)
+                        .exchange()
+                        .expectStatus().isCreated())
+                .expectNextMatches(invalidation -> invalidation.getId().equals("Invalidated") &&
+                        invalidation.getType() == ItemInvalidation.Type.SAVED)
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+    }
+}
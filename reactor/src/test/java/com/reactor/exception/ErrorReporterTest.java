@@ -0,0 +1,47 @@
+package com.reactor.exception;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+public class ErrorReporterTest {
+
+    private ErrorReporter errorReporter;
+
+    @Before
+    public void setUp() {
+        ErrorProperties errorProperties = new ErrorProperties();
+        errorProperties.setLogsPerSecond(0.001);
+        errorProperties.setLogBurst(1);
+        errorProperties.setLogStackTraces(false);
+        errorReporter = new ErrorReporter(errorProperties);
+    }
+
+    @Test
+    public void shouldKeepTheOriginalStatus() {
+        ErrorResponse conflict = errorReporter.report(new ResponseStatusException(HttpStatus.CONFLICT, "taken"));
+        ErrorResponse timeout = errorReporter.report(new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT));
+
+        Assert.assertEquals(409, conflict.getStatus());
+        Assert.assertEquals(ErrorCode.INVALID_REQUEST.name(), conflict.getCode());
+        Assert.assertEquals("taken", conflict.getMessage());
+        Assert.assertEquals(504, timeout.getStatus());
+        Assert.assertEquals(ErrorCode.INTERNAL_ERROR.name(), timeout.getCode());
+    }
+
+    @Test
+    public void shouldSampleLogsPerCodeAndCountSuppressed() {
+        for (int i = 0; i < 3; i++) {
+            errorReporter.report(new ServerWebInputException("bad input"));
+        }
+        errorReporter.report(ItemErrors.DRAINING);
+
+        Assert.assertEquals(3L, (long) errorReporter.getCounts().get(ErrorCode.INVALID_REQUEST.name()));
+        Assert.assertEquals(2, errorReporter.getSuppressed(ErrorCode.INVALID_REQUEST));
+        Assert.assertEquals(1L, (long) errorReporter.getCounts().get(ErrorCode.SERVICE_UNAVAILABLE.name()));
+        Assert.assertEquals(0, errorReporter.getSuppressed(ErrorCode.SERVICE_UNAVAILABLE));
+    }
+}
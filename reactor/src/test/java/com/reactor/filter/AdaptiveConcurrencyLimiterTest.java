@@ -0,0 +1,84 @@
+package com.reactor.filter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    public void shouldShedLowerPrioritiesFirst() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 0.2);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(limiter.tryAcquire(RequestPriority.SHEDDABLE));
+        }
+
+        Assert.assertFalse(limiter.tryAcquire(RequestPriority.SHEDDABLE));
+        Assert.assertFalse(limiter.admits(RequestPriority.SHEDDABLE));
+        Assert.assertTrue(limiter.tryAcquire(RequestPriority.NORMAL));
+        Assert.assertTrue(limiter.tryAcquire(RequestPriority.CRITICAL));
+        Assert.assertEquals(7, limiter.getInFlight());
+    }
+
+    @Test
+    public void shouldShrinkLimitWhenLatencyGrows() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, 0.5);
+        saturate(limiter, TimeUnit.MILLISECONDS.toNanos(10));
+        int limitAtNoLoad = limiter.getLimit();
+
+        for (int i = 0; i < 10; i++) {
+            saturate(limiter, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+
+        Assert.assertTrue(limiter.getLimit() < limitAtNoLoad);
+        Assert.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void shouldBackOffOnDrops() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 10, 100, 0.2);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertTrue(limiter.tryAcquire(RequestPriority.CRITICAL));
+            limiter.onDropped();
+        }
+
+        Assert.assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    public void shouldKeepNoLoadBaselineUnderSustainedLoad() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, 0.5);
+        saturate(limiter, TimeUnit.MILLISECONDS.toNanos(10));
+        loaded(limiter, TimeUnit.MILLISECONDS.toNanos(100), 200);
+        int limitUnderLoad = limiter.getLimit();
+
+        loaded(limiter, TimeUnit.MILLISECONDS.toNanos(100), 2000);
+
+        Assert.assertTrue(limiter.getLimit() <= limitUnderLoad);
+    }
+
+    /**
+     * Keeps the limiter full, so every sample is taken under load.
+     */
+    private void loaded(AdaptiveConcurrencyLimiter limiter, long rttNanos, int samples) {
+        for (int i = 0; i < samples; i++) {
+            while (limiter.tryAcquire(RequestPriority.CRITICAL)) {
+                // fill up to the limit
+            }
+            if (limiter.getInFlight() > 0) {
+                limiter.onSuccess(rttNanos);
+            }
+        }
+    }
+
+    private void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire(RequestPriority.CRITICAL)) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.onSuccess(rttNanos);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.reactor.filter;
+
+import com.reactor.exception.ErrorCode;
+import com.reactor.exception.ItemErrors;
+import com.reactor.exception.ItemException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.concurrent.TimeoutException;
+
+public class ConcurrencyLimitFilterTest {
+
+    @Test
+    public void shouldTreatClientErrorsAsIgnored() {
+        Assert.assertFalse(ConcurrencyLimitFilter.isOverload(new ServerWebInputException("bad filter")));
+        Assert.assertFalse(ConcurrencyLimitFilter.isOverload(new ResponseStatusException(HttpStatus.NOT_FOUND)));
+        Assert.assertFalse(ConcurrencyLimitFilter.isOverload(new ItemException(ErrorCode.NOT_FOUND, "missing")));
+        Assert.assertFalse(ConcurrencyLimitFilter.isOverload(ItemErrors.RUNTIME_DEMO));
+    }
+
+    @Test
+    public void shouldTreatTimeoutsAndServerErrorsAsDrops() {
+        Assert.assertTrue(ConcurrencyLimitFilter.isOverload(new TimeoutException()));
+        Assert.assertTrue(ConcurrencyLimitFilter.isOverload(new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT)));
+        Assert.assertTrue(ConcurrencyLimitFilter.isOverload(new ItemException(ErrorCode.INTERNAL_ERROR, "failed")));
+        Assert.assertTrue(ConcurrencyLimitFilter.isOverload(new IllegalStateException()));
+    }
+}
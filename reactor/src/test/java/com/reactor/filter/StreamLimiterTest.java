@@ -0,0 +1,23 @@
+package com.reactor.filter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StreamLimiterTest {
+
+    @Test
+    public void shouldBoundOpenStreamsByPriority() {
+        StreamLimiter streamLimiter = new StreamLimiter(4);
+        Assert.assertTrue(streamLimiter.tryAcquire(RequestPriority.SHEDDABLE));
+        Assert.assertTrue(streamLimiter.tryAcquire(RequestPriority.SHEDDABLE));
+
+        Assert.assertFalse(streamLimiter.tryAcquire(RequestPriority.SHEDDABLE));
+        Assert.assertTrue(streamLimiter.tryAcquire(RequestPriority.CRITICAL));
+        Assert.assertTrue(streamLimiter.tryAcquire(RequestPriority.CRITICAL));
+        Assert.assertFalse(streamLimiter.tryAcquire(RequestPriority.CRITICAL));
+
+        streamLimiter.release();
+        Assert.assertTrue(streamLimiter.tryAcquire(RequestPriority.CRITICAL));
+        Assert.assertEquals(4, streamLimiter.getOpen());
+    }
+}
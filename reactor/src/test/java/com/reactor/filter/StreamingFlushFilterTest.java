@@ -0,0 +1,116 @@
+package com.reactor.filter;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class StreamingFlushFilterTest {
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+
+    private StreamingFlushProperties streamingFlushProperties;
+    private RecordingResponse response;
+    private ServerWebExchange exchange;
+
+    @Before
+    public void setUp() {
+        streamingFlushProperties = new StreamingFlushProperties();
+        streamingFlushProperties.setMode(StreamingFlushProperties.Mode.INTERVAL);
+        response = new RecordingResponse();
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/stream/items")).mutate()
+                .response(response)
+                .build();
+    }
+
+    @Test
+    public void shouldFlushWhenMaxItemsAreGrouped() {
+        streamingFlushProperties.setInterval(Duration.ofSeconds(10));
+        streamingFlushProperties.setMaxItems(3);
+
+        StepVerifier.create(filter(Flux.range(0, 7).map(this::item)))
+                .verifyComplete();
+
+        Assert.assertEquals(Arrays.asList(3, 3, 1), response.flushes);
+    }
+
+    @Test
+    public void shouldFlushWhatTheIntervalGrouped() {
+        streamingFlushProperties.setInterval(Duration.ofMillis(100));
+        streamingFlushProperties.setMaxItems(10);
+
+        StepVerifier.create(filter(Flux.concat(
+                Flux.just(item(0), item(1)),
+                Mono.delay(Duration.ofMillis(500)).map(tick -> item(2)))))
+                .verifyComplete();
+
+        Assert.assertEquals(Arrays.asList(2, 1), response.flushes);
+    }
+
+    @Test
+    public void shouldReleaseGroupedBuffersWhenTheBodyFails() {
+        streamingFlushProperties.setInterval(Duration.ofSeconds(10));
+        streamingFlushProperties.setMaxItems(10);
+        List<DataBuffer> items = Arrays.asList(item(0), item(1));
+
+        StepVerifier.create(filter(Flux.concat(Flux.fromIterable(items), Flux.error(new IllegalStateException()))))
+                .verifyError(IllegalStateException.class);
+
+        Assert.assertTrue(response.flushes.isEmpty());
+        for (DataBuffer item : items) {
+            Assert.assertEquals(0, ((NettyDataBuffer) item).getNativeBuffer().refCnt());
+        }
+    }
+
+    private Mono<Void> filter(Flux<DataBuffer> items) {
+        return new StreamingFlushFilter(streamingFlushProperties).filter(exchange, filtered -> {
+            filtered.getResponse().getHeaders().setContentType(MediaType.APPLICATION_STREAM_JSON);
+            return filtered.getResponse().writeAndFlushWith(items.map(Mono::just));
+        });
+    }
+
+    private DataBuffer item(int index) {
+        return bufferFactory.wrap(("{\"id\":\"" + index + "\"}\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Records how many items each flush carried.
+     */
+    private static class RecordingResponse extends ServerHttpResponseDecorator {
+
+        private final List<Integer> flushes = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingResponse() {
+            super(new MockServerHttpResponse());
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return Flux.from(body)
+                    .concatMap(group -> Flux.from(group).doOnNext(DataBufferUtils::release).count())
+                    .doOnNext(count -> flushes.add(count.intValue()))
+                    .then();
+        }
+    }
+}
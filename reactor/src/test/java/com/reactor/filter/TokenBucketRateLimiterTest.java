@@ -0,0 +1,52 @@
+package com.reactor.filter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void shouldAllowBurstThenReject() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, 4, 100);
+
+        Assert.assertEquals(2, limiter.tryAcquire("client", 0));
+        Assert.assertEquals(1, limiter.tryAcquire("client", 0));
+        Assert.assertEquals(0, limiter.tryAcquire("client", 0));
+        Assert.assertEquals(-SECOND / 10, limiter.tryAcquire("client", 0));
+    }
+
+    @Test
+    public void shouldRefillOverTime() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, 4, 100);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("client", 0);
+        }
+
+        Assert.assertEquals(0, limiter.tryAcquire("client", SECOND / 10));
+        Assert.assertEquals(2, limiter.tryAcquire("client", SECOND));
+    }
+
+    @Test
+    public void shouldKeepClientsIndependent() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1, 4, 100);
+
+        Assert.assertEquals(0, limiter.tryAcquire("first", 0));
+        Assert.assertTrue(limiter.tryAcquire("first", 0) < 0);
+        Assert.assertEquals(0, limiter.tryAcquire("second", 0));
+    }
+
+    @Test
+    public void shouldBoundKeysWhenNoBucketIsIdle() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1, 1, 4);
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(0, limiter.tryAcquire("client-" + i, 0));
+        }
+
+        Assert.assertEquals(4, limiter.keyCount());
+    }
+}
@@ -2,6 +2,7 @@ package com.reactor.handler;
 
 import com.reactor.document.ItemCapped;
 import com.reactor.repository.ItemReactiveCappedRepository;
+import com.reactor.stream.FeedCollections;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -9,7 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.mongodb.core.CollectionOptions;
-import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -30,14 +31,19 @@ public class ItemStreamHandlerTest {
     @Autowired
     private ItemReactiveCappedRepository itemReactiveCappedRepository;
     @Autowired
-    private MongoOperations mongoOperations;
+    private ReactiveMongoOperations reactiveMongoOperations;
+    @Autowired
+    private FeedCollections feedCollections;
     @Autowired
     private WebTestClient webTestClient;
 
     @Before
     public void setUp() throws Exception {
-        mongoOperations.dropCollection(ItemCapped.class);
-        mongoOperations.createCollection(ItemCapped.class, CollectionOptions.empty().maxDocuments(20).size(50000).capped());
+        feedCollections.provisioned().block(Duration.ofSeconds(10));
+        reactiveMongoOperations.dropCollection(ItemCapped.class)
+                .then(reactiveMongoOperations.createCollection(ItemCapped.class,
+                        CollectionOptions.empty().maxDocuments(20).size(50176).capped()))
+                .block();
 
         Flux<ItemCapped> itemCappedFlux = Flux.interval(Duration.ofMillis(100))
                 .map(i -> new ItemCapped(null, "Random Item " + i, new BigDecimal(i)))
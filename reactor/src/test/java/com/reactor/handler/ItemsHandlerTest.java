@@ -10,6 +10,7 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
@@ -78,6 +79,23 @@ public class ItemsHandlerTest {
                 });
     }
 
+    @Test
+    public void shouldStreamAllItems() {
+        Flux<Item> itemFlux = webTestClient.get()
+                .uri("/v1/fun/items")
+                .accept(MediaType.APPLICATION_STREAM_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_STREAM_JSON)
+                .returnResult(Item.class)
+                .getResponseBody();
+
+        StepVerifier.create(itemFlux)
+                .expectSubscription()
+                .expectNextCount(4)
+                .verifyComplete();
+    }
+
     @Test
     public void shouldGetItem() {
         webTestClient.get()
@@ -93,6 +111,46 @@ public class ItemsHandlerTest {
                 });
     }
 
+    @Test
+    public void shouldReturnNoItem() {
+        webTestClient.get()
+                .uri("/v1/fun/items/1903")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    @Test
+    public void shouldReturnNotModifiedForMatchingETag() {
+        String eTag = webTestClient.get()
+                .uri("/v1/fun/items/Id")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectHeader().exists(HttpHeaders.CACHE_CONTROL)
+                .returnResult(Item.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get()
+                .uri("/v1/fun/items/Id")
+                .ifNoneMatch(eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    public void shouldCacheListWithoutETag() {
+        webTestClient.get()
+                .uri("/v1/fun/items")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.CACHE_CONTROL)
+                .expectHeader().doesNotExist(HttpHeaders.ETAG)
+                .expectBodyList(Item.class)
+                .hasSize(4);
+    }
+
     @Test
     public void shouldSaveItem() {
         Item item = new Item(null,
@@ -154,6 +212,20 @@ public class ItemsHandlerTest {
                 );
     }
 
+    @Test
+    public void shouldValidateNoExistentItemOnUpdate() {
+        Item item = new Item(null,
+                "Description",
+                BigDecimal.ONE);
+        webTestClient.put()
+                .uri("/v1/fun/items/1903")
+                .contentType(MediaType.APPLICATION_JSON_UTF8)
+                .accept(MediaType.APPLICATION_JSON_UTF8)
+                .body(Mono.just(item), Item.class)
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
     @Test
     public void shouldValidateRunTimeException() {
         webTestClient.get()
@@ -162,6 +234,18 @@ public class ItemsHandlerTest {
                 .exchange()
                 .expectStatus().is5xxServerError()
                 .expectBody()
-                .jsonPath("$.message","RunTimeException :o");
+                .jsonPath("$.code").isEqualTo("DEMO_FAILURE")
+                .jsonPath("$.message").isEqualTo("RunTimeException :o");
+    }
+
+    @Test
+    public void shouldRenderUnknownRouteAsErrorResponse() {
+        webTestClient.get()
+                .uri("/v1/fun/unknown/route")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("NOT_FOUND")
+                .jsonPath("$.status").isEqualTo(404);
     }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.reactor.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertTrue;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+public class JfrRecordingControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private JfrRecordings jfrRecordings;
+    @Autowired
+    private JfrProperties jfrProperties;
+
+    @After
+    public void tearDown() throws IOException {
+        jfrRecordings.stop();
+    }
+
+    @Test
+    public void shouldRecordRequestsAndMongoCommands() throws Exception {
+        Set<Path> dumpsBefore = dumps();
+        webTestClient.post().uri("/v1/admin/jfr/start")
+                .exchange()
+                .expectStatus().isCreated();
+        webTestClient.post().uri("/v1/admin/jfr/start")
+                .exchange()
+                .expectStatus().isEqualTo(409);
+
+        webTestClient.get().uri("/v1/items")
+                .exchange()
+                .expectStatus().isOk();
+
+        byte[] recording = webTestClient.post().uri("/v1/admin/jfr/stop")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        Path file = Files.createTempFile("received-recording", ".jfr");
+        Files.write(file, recording);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        for (int attempt = 0; attempt < 50 && !dumpsBefore.containsAll(dumps()); attempt++) {
+            Thread.sleep(100);
+        }
+        assertTrue("Sent dumps are deleted", dumpsBefore.containsAll(dumps()));
+
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("com.reactor.Request")
+                && "/v1/items".equals(event.getString("route"))));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("com.reactor.MongoCommand")
+                && "find".equals(event.getString("command"))));
+    }
+
+    private Set<Path> dumps() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(jfrProperties.getDumpDirectory()))) {
+            return files.filter(path -> path.getFileName().toString().startsWith("item-service-"))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void shouldAnswerNotFoundWithoutRecording() {
+        webTestClient.post().uri("/v1/admin/jfr/dump")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,117 @@
+package com.reactor.lifecycle;
+
+import com.reactor.document.Item;
+import com.reactor.document.ItemCapped;
+import com.reactor.repository.ItemReactiveCappedRepository;
+import com.reactor.stream.FeedCollections;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+public class GracefulDrainTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private ReactiveMongoOperations reactiveMongoOperations;
+    @Autowired
+    private FeedCollections feedCollections;
+    @Autowired
+    private MongoMappingContext mongoMappingContext;
+    @Autowired
+    private ItemReactiveCappedRepository itemReactiveCappedRepository;
+    @Autowired
+    private GracefulDrain gracefulDrain;
+
+    @Before
+    public void setUp() {
+        feedCollections.provisioned().block(Duration.ofSeconds(10));
+        reactiveMongoOperations.dropCollection(ItemCapped.class)
+                .then(reactiveMongoOperations.createCollection(ItemCapped.class,
+                        CollectionOptions.empty().maxDocuments(20).size(50176).capped()))
+                .block();
+        new MongoPersistentEntityIndexResolver(mongoMappingContext)
+                .resolveIndexFor(ClassTypeInformation.from(Item.class))
+                .forEach(index -> reactiveMongoOperations.indexOps(Item.class).ensureIndex(index).block());
+
+        itemReactiveCappedRepository.insert(Flux.just(
+                new ItemCapped(null, "Random Item 0", BigDecimal.ZERO),
+                new ItemCapped(null, "Random Item 1", BigDecimal.ONE)))
+                .blockLast();
+    }
+
+    @Test
+    public void shouldBeReadyOnceProvisioned() {
+        webTestClient.get()
+                .uri("/v1/health/ready")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("UP")
+                .jsonPath("$.mongo").isEqualTo("UP")
+                .jsonPath("$.feedCollections").isEqualTo("UP")
+                .jsonPath("$.indexes").isEqualTo("UP");
+    }
+
+    @Test
+    @DirtiesContext
+    public void shouldEndStreamsWithReconnectHintAndRefuseNewOnes() {
+        Flux<ServerSentEvent<ItemCapped>> events = webTestClient.get()
+                .uri("/v1/stream/items/events")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<ItemCapped>>() {
+                })
+                .getResponseBody();
+
+        StepVerifier.create(events)
+                .expectNextMatches(event -> event.data().getDescription().equals("Random Item 0"))
+                .expectNextMatches(event -> event.data().getDescription().equals("Random Item 1"))
+                .then(() -> gracefulDrain.drain().subscribe())
+                .expectNextMatches(event -> GracefulDrain.RECONNECT_EVENT.equals(event.event()) &&
+                        event.retry() != null &&
+                        event.retry().compareTo(Duration.ofMillis(100)) >= 0)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+
+        webTestClient.get()
+                .uri("/v1/stream/items")
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectHeader().exists(HttpHeaders.RETRY_AFTER);
+
+        webTestClient.get()
+                .uri("/v1/health/ready")
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectBody()
+                .jsonPath("$.draining").isEqualTo("DOWN");
+    }
+}
@@ -0,0 +1,91 @@
+package com.reactor.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+public class SignalLoggingRoutesTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+    private Logger signalLogger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @Before
+    public void setUp() {
+        signalLogger = (Logger) LoggerFactory.getLogger("reactor.signal.mono");
+        appender = new ListAppender<>();
+        appender.start();
+        signalLogger.addAppender(appender);
+    }
+
+    @After
+    public void tearDown() {
+        signalLogger.detachAppender(appender);
+    }
+
+    @Test
+    public void shouldLogSignalsOnlyWhileRouteIsEnabled() {
+        webTestClient.get().uri("/mono").exchange().expectStatus().isOk();
+        Assert.assertTrue(appender.list.isEmpty());
+
+        webTestClient.put()
+                .uri("/v1/admin/logging/signals/mono")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.mono").isEqualTo(1.0)
+                .jsonPath("$.flux").isEqualTo(1.0);
+
+        webTestClient.get().uri("/mono").exchange().expectStatus().isOk();
+        Assert.assertTrue(appender.list.stream().anyMatch(event -> event.getFormattedMessage().equals("onNext(1)")));
+        Assert.assertTrue(appender.list.stream().anyMatch(event -> event.getFormattedMessage().equals("onComplete()")));
+
+        webTestClient.delete()
+                .uri("/v1/admin/logging/signals/mono")
+                .exchange()
+                .expectStatus().isNoContent();
+        appender.list.clear();
+
+        webTestClient.get().uri("/mono").exchange().expectStatus().isOk();
+        Assert.assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    public void shouldRefuseUnknownRoutesAndRatiosOutOfRange() {
+        webTestClient.put()
+                .uri("/v1/admin/logging/signals/not-a-route")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.put()
+                .uri("/v1/admin/logging/signals/mono?sampleRatio=2")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.get()
+                .uri("/v1/admin/logging/signals")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$['not-a-route']").doesNotExist();
+    }
+}
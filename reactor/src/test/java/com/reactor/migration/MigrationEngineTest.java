@@ -0,0 +1,97 @@
+package com.reactor.migration;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import com.reactor.document.Item;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@ActiveProfiles("test")
+public class MigrationEngineTest {
+
+    private static final ItemMigration UPPERCASE_DESCRIPTION = new ItemMigration() {
+        @Override
+        public String name() {
+            return "uppercase-description";
+        }
+
+        @Override
+        public Bson filter() {
+            return Filters.regex("description", "^item");
+        }
+
+        @Override
+        public Bson transform(Document document) {
+            return Updates.set("description", document.getString("description").toUpperCase());
+        }
+    };
+
+    @Autowired
+    private ReactiveMongoOperations reactiveMongoOperations;
+    private String collectionName;
+    private MigrationEngine migrationEngine;
+
+    @Before
+    public void setUp() throws Exception {
+        MigrationProperties migrationProperties = new MigrationProperties();
+        migrationProperties.setPartitions(3);
+        migrationProperties.setBatchSize(4);
+        migrationProperties.setOpsPerSecond(0);
+        migrationEngine = new MigrationEngine(reactiveMongoOperations, migrationProperties);
+        collectionName = reactiveMongoOperations.getCollectionName(Item.class);
+
+        reactiveMongoOperations.dropCollection(MigrationEngine.CHECKPOINT_COLLECTION)
+                .then(reactiveMongoOperations.remove(new Query(), collectionName))
+                .thenMany(Flux.range(0, 25)
+                        .map(i -> new Document("_id", i % 2 == 0 ? new ObjectId() : (Object) ("Id" + i))
+                                .append("description", "item " + i)))
+                .flatMap(document -> reactiveMongoOperations.insert(document, collectionName))
+                .blockLast();
+    }
+
+    @Test
+    public void shouldMigrateEveryPartition() {
+        StepVerifier.create(migrationEngine.run(UPPERCASE_DESCRIPTION))
+                .expectSubscription()
+                .expectNext(25L)
+                .verifyComplete();
+
+        StepVerifier.create(reactiveMongoOperations.count(
+                Query.query(Criteria.where("description").regex("^item")), collectionName))
+                .expectSubscription()
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    public void shouldNotRepeatCompletedMigration() {
+        StepVerifier.create(migrationEngine.run(UPPERCASE_DESCRIPTION)
+                .then(migrationEngine.run(UPPERCASE_DESCRIPTION)))
+                .expectSubscription()
+                .expectNext(0L)
+                .verifyComplete();
+
+        StepVerifier.create(reactiveMongoOperations.count(
+                Query.query(Criteria.where("completed").is(false)), MigrationEngine.CHECKPOINT_COLLECTION))
+                .expectSubscription()
+                .expectNext(0L)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,99 @@
+package com.reactor.migration;
+
+import com.reactor.document.Item;
+import com.reactor.repository.ItemReactiveRepository;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@ActiveProfiles("test")
+public class PriceDecimal128MigrationTest {
+
+    @Autowired
+    private ReactiveMongoOperations reactiveMongoOperations;
+    @Autowired
+    private ItemReactiveRepository itemReactiveRepository;
+    @Autowired
+    private MigrationEngine migrationEngine;
+    private String collectionName;
+
+    @Before
+    public void setUp() throws Exception {
+        collectionName = reactiveMongoOperations.getCollectionName(Item.class);
+        reactiveMongoOperations.dropCollection(MigrationEngine.CHECKPOINT_COLLECTION)
+                .then(itemReactiveRepository.deleteAll())
+                .then(reactiveMongoOperations.insert(new Document("_id", "Legacy")
+                        .append("description", "Legacy Item")
+                        .append("price", "10.50"), collectionName))
+                .block();
+    }
+
+    @Test
+    public void shouldMigrateStringPrices() {
+        StepVerifier.create(migrationEngine.run(new PriceDecimal128Migration()))
+                .expectSubscription()
+                .expectNext(1L)
+                .verifyComplete();
+
+        StepVerifier.create(reactiveMongoOperations.findById("Legacy", Document.class, collectionName))
+                .expectSubscription()
+                .expectNextMatches(document -> document.get("price") instanceof Decimal128)
+                .verifyComplete();
+
+        StepVerifier.create(itemReactiveRepository.findById("Legacy"))
+                .expectSubscription()
+                .expectNextMatches(item -> item.getPrice().compareTo(new BigDecimal("10.50")) == 0)
+                .verifyComplete();
+    }
+
+    @Test
+    public void shouldSkipPricesThatAreNotNumbers() {
+        reactiveMongoOperations.insert(new Document("_id", "Unpriced")
+                .append("description", "Unpriced Item")
+                .append("price", "n/a"), collectionName)
+                .block();
+
+        StepVerifier.create(migrationEngine.run(new PriceDecimal128Migration()))
+                .expectSubscription()
+                .expectNext(1L)
+                .verifyComplete();
+
+        StepVerifier.create(reactiveMongoOperations.findById("Unpriced", Document.class, collectionName))
+                .expectSubscription()
+                .expectNextMatches(document -> "n/a".equals(document.get("price")))
+                .verifyComplete();
+
+        StepVerifier.create(reactiveMongoOperations.findById("Legacy", Document.class, collectionName))
+                .expectSubscription()
+                .expectNextMatches(document -> document.get("price") instanceof Decimal128)
+                .verifyComplete();
+    }
+
+    @Test
+    public void shouldStorePricesAsDecimal128() {
+        StepVerifier.create(itemReactiveRepository.save(new Item("New", "New Item", BigDecimal.TEN))
+                .then(reactiveMongoOperations.findById("New", Document.class, collectionName)))
+                .expectSubscription()
+                .expectNextMatches(document -> document.get("price") instanceof Decimal128)
+                .verifyComplete();
+
+        StepVerifier.create(itemReactiveRepository.findByPriceBetween(BigDecimal.ONE, new BigDecimal("11")))
+                .expectSubscription()
+                .expectNextMatches(item -> item.getId().equals("New"))
+                .verifyComplete();
+    }
+}
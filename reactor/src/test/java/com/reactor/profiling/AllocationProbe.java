@@ -0,0 +1,104 @@
+package com.reactor.profiling;
+
+import lombok.Value;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures heap allocated by an operation across all live threads, since a request is served on event loop and
+ * Mongo driver threads rather than the caller. What the threads allocate while idle (driver heartbeats, timers,
+ * metrics) is sampled first and subtracted for the time the operation ran. Bytes allocated by threads that exit
+ * during the measurement are lost, so results are a lower bound.
+ */
+public final class AllocationProbe {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    static {
+        if (THREADS.isThreadAllocatedMemorySupported()) {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    private static final long IDLE_SAMPLE_MILLIS = 1000;
+
+    private AllocationProbe() {
+    }
+
+    public static Result measure(String name, int warmupIterations, int iterations, Runnable operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            operation.run();
+        }
+        double idleBytesPerNano = idleBytesPerNano();
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long idle = (long) (idleBytesPerNano * elapsed);
+        return new Result(name,
+                Math.max(allocatedBytes() - allocated - idle, 0) / iterations,
+                gcCount() - gcCount,
+                gcMillis() - gcMillis);
+    }
+
+    public static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported();
+    }
+
+    private static double idleBytesPerNano() {
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            Thread.sleep(IDLE_SAMPLE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+        return (double) (allocatedBytes() - allocated) / (System.nanoTime() - start);
+    }
+
+    private static long allocatedBytes() {
+        long total = 0;
+        for (long bytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(collector.getCollectionCount(), 0);
+        }
+        return total;
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(collector.getCollectionTime(), 0);
+        }
+        return total;
+    }
+
+    @Value
+    public static class Result {
+        String name;
+        long bytesPerOp;
+        long gcCount;
+        long gcMillis;
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %12d bytes/op %6d gcs %6d ms", name, bytesPerOp, gcCount, gcMillis);
+        }
+    }
+}
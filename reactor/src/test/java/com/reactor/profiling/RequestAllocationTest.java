@@ -0,0 +1,124 @@
+package com.reactor.profiling;
+
+import com.reactor.document.Item;
+import com.reactor.repository.ItemReactiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Allocation per request of the hot read routes, failing when a route exceeds its budget in
+ * {@code allocation-thresholds.properties}. Runs in the {@code allocationTest} Gradle task; limiters are off so every
+ * request reaches the handler. The {@code allocationBudgets} task sets {@code allocation.record} instead, and each
+ * route's measurement plus {@link #BUDGET_MARGIN} is written to that file rather than checked.
+ */
+@SpringBootTest(properties = {"item.rate-limit.enabled=false", "item.concurrency-limit.enabled=false"})
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+@Slf4j
+public class RequestAllocationTest {
+
+    private static final int WARMUP_ITERATIONS = 2000;
+    private static final int ITERATIONS = 2000;
+    private static final double BUDGET_MARGIN = 1.25;
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private ItemReactiveRepository itemReactiveRepository;
+
+    private Properties thresholds;
+
+    @Before
+    public void setUp() throws IOException {
+        Assume.assumeTrue(AllocationProbe.isSupported());
+        List<Item> items = new ArrayList<>();
+        items.add(new Item("Id", "Samsung TV", new BigDecimal("400.0")));
+        for (int i = 0; i < 9; i++) {
+            items.add(new Item(null, "Item " + i, new BigDecimal(i)));
+        }
+        itemReactiveRepository.deleteAll()
+                .thenMany(Flux.fromIterable(items))
+                .flatMap(itemReactiveRepository::save)
+                .blockLast();
+        thresholds = new Properties();
+        try (InputStream inputStream = getClass().getResourceAsStream("/allocation-thresholds.properties")) {
+            thresholds.load(inputStream);
+        }
+    }
+
+    @Test
+    public void annotatedGetOne() {
+        assertWithinBudget("annotated.get-one", "/v1/items/Id");
+    }
+
+    @Test
+    public void annotatedList() {
+        assertWithinBudget("annotated.list", "/v1/items");
+    }
+
+    @Test
+    public void functionalGetOne() {
+        assertWithinBudget("functional.get-one", "/v1/fun/items/Id");
+    }
+
+    @Test
+    public void functionalList() {
+        assertWithinBudget("functional.list", "/v1/fun/items");
+    }
+
+    private void assertWithinBudget(String route, String uri) {
+        AllocationProbe.Result result = AllocationProbe.measure(route, WARMUP_ITERATIONS, ITERATIONS, () ->
+                webTestClient.get()
+                        .uri(uri)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .exchange()
+                        .expectStatus().isOk()
+                        .expectBody()
+                        .returnResult());
+        log.info("Allocation {}", result);
+        String record = System.getProperty("allocation.record");
+        if (record != null) {
+            record(record, route + "=" + (long) Math.ceil(result.getBytesPerOp() * BUDGET_MARGIN));
+            return;
+        }
+        long budget = Long.parseLong(thresholds.getProperty(route));
+        assertTrue(result + " exceeds budget of " + budget + " bytes/op", result.getBytesPerOp() <= budget);
+    }
+
+    private static void record(String file, String line) {
+        try {
+            Files.write(Paths.get(file), Collections.singletonList(line), StandardCharsets.ISO_8859_1,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot record allocation budget in " + file, e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.reactor.rsocket;
+
+import com.reactor.document.Item;
+import com.reactor.repository.ItemReactiveRepository;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.rsocket.RSocketFactory;
+import io.rsocket.transport.netty.client.TcpClientTransport;
+import io.rsocket.util.DefaultPayload;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@ActiveProfiles("test")
+public class ItemRSocketTest {
+
+    @Autowired
+    private ItemReactiveRepository itemReactiveRepository;
+    @Autowired
+    private ItemRSocketServer itemRSocketServer;
+
+    private RSocket rSocket;
+
+    private List<Item> items = Arrays.asList(new Item(null, "Samsung TV", new BigDecimal("400.0")),
+            new Item(null, "LG TV", new BigDecimal("329.99")),
+            new Item("ABC", "Beats HeadPhones", new BigDecimal("149.99")));
+
+    @Before
+    public void setUp() {
+        itemReactiveRepository.deleteAll()
+                .thenMany(Flux.fromIterable(items))
+                .flatMap(itemReactiveRepository::save)
+                .blockLast();
+        rSocket = RSocketFactory.connect()
+                .transport(TcpClientTransport.create(itemRSocketServer.getTcpAddress()))
+                .start()
+                .block();
+    }
+
+    @After
+    public void tearDown() {
+        rSocket.dispose();
+    }
+
+    @Test
+    public void shouldGetItemById() {
+        StepVerifier.create(rSocket.requestResponse(DefaultPayload.create("ABC", ItemRSocketHandler.ITEM_GET))
+                .map(Payload::getDataUtf8))
+                .expectNextMatches(json -> json.contains("Beats HeadPhones"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void shouldStreamItemsFollowingDemand() {
+        StepVerifier.create(rSocket.requestStream(DefaultPayload.create("", ItemRSocketHandler.ITEMS_LIST)), 1)
+                .expectNextCount(1)
+                .thenRequest(2)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    public void shouldIngestItemsOverChannel() {
+        Flux<Payload> payloads = Flux.range(0, 10)
+                .map(i -> DefaultPayload.create("{\"description\":\"Bulk " + i + "\",\"price\":" + i + "}"));
+
+        StepVerifier.create(rSocket.requestChannel(payloads))
+                .expectNextCount(10)
+                .verifyComplete();
+
+        StepVerifier.create(itemReactiveRepository.findAll())
+                .expectNextCount(13)
+                .verifyComplete();
+    }
+
+    @Test
+    public void shouldRejectUnknownRoute() {
+        StepVerifier.create(rSocket.requestResponse(DefaultPayload.create("ABC", "item.unknown")))
+                .expectError()
+                .verify();
+    }
+}
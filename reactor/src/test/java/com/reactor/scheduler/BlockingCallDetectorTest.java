@@ -0,0 +1,54 @@
+package com.reactor.scheduler;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@ActiveProfiles("test")
+public class BlockingCallDetectorTest {
+
+    @Autowired
+    private BlockingCallDetector blockingCallDetector;
+    @Autowired
+    private ItemSchedulers itemSchedulers;
+
+    @Test
+    public void shouldReportBlockingCallOnTimerThread() {
+        Mono.fromRunnable(this::sleep)
+                .subscribeOn(itemSchedulers.timer())
+                .block();
+
+        Assert.assertTrue(blockingCallDetector.getDetections().keySet().stream()
+                .anyMatch(location -> location.contains(BlockingCallDetectorTest.class.getName())));
+    }
+
+    @Test
+    public void shouldNotReportBlockingOnWorkloadScheduler() {
+        Map<String, Long> detectionsBefore = blockingCallDetector.getDetections();
+
+        Mono.fromRunnable(this::sleep)
+                .subscribeOn(itemSchedulers.workload("mongo-blocking"))
+                .block();
+
+        Assert.assertEquals(detectionsBefore, blockingCallDetector.getDetections());
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
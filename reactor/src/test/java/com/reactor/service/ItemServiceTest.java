@@ -0,0 +1,62 @@
+package com.reactor.service;
+
+import com.reactor.document.Item;
+import com.reactor.invalidation.ItemInvalidation;
+import com.reactor.invalidation.ItemInvalidationPublisher;
+import com.reactor.repository.ItemReactiveRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@ActiveProfiles("test")
+public class ItemServiceTest {
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemReactiveRepository itemReactiveRepository;
+    @Autowired
+    private ItemInvalidationPublisher itemInvalidationPublisher;
+
+    @Before
+    public void setUp() {
+        itemReactiveRepository.deleteAll()
+                .then(itemReactiveRepository.save(new Item("Id", "Samsung TV", new BigDecimal("400.0"))))
+                .block();
+    }
+
+    @Test
+    public void shouldUpdateInPlaceAndPublishInvalidation() {
+        StepVerifier.create(itemInvalidationPublisher.invalidations()
+                .filter(invalidation -> invalidation.getType() == ItemInvalidation.Type.UPDATED))
+                .then(() -> StepVerifier.create(itemService.update("Id", new Item(null, "LG TV", BigDecimal.ONE)))
+                        .expectNextMatches(item -> item.getId().equals("Id") &&
+                                item.getDescription().equals("LG TV") &&
+                                item.getPrice().compareTo(BigDecimal.ONE) == 0)
+                        .verifyComplete())
+                .expectNextMatches(invalidation -> invalidation.getId().equals("Id"))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void shouldNotUpdateMissingItem() {
+        StepVerifier.create(itemService.update("1903", new Item(null, "LG TV", BigDecimal.ONE)))
+                .verifyComplete();
+
+        StepVerifier.create(itemReactiveRepository.findById("1903"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,64 @@
+package com.reactor.startup;
+
+import com.reactor.lifecycle.ReadinessCheck;
+import com.reactor.stream.FeedCollections;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The test profile inherits the production auto-configuration exclude list, so this context has no blocking Mongo
+ * client or template and must still provision the feed and report it ready.
+ */
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@ActiveProfiles("test")
+public class ProductionContextTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private ConfigurableEnvironment environment;
+    @Autowired
+    private FeedCollections feedCollections;
+    @Autowired
+    private ReadinessCheck readinessCheck;
+
+    @Test
+    public void shouldStartWithoutBlockingMongoBeans() {
+        Assert.assertTrue(Binder.get(environment)
+                .bind("spring.autoconfigure.exclude", Bindable.listOf(String.class))
+                .orElse(Collections.emptyList())
+                .contains(MongoAutoConfiguration.class.getName()));
+        Assert.assertEquals(0, applicationContext.getBeanNamesForType(MongoOperations.class).length);
+        Assert.assertEquals(0, applicationContext.getBeanNamesForType(com.mongodb.MongoClient.class).length);
+        Assert.assertEquals(1, applicationContext.getBeanNamesForType(ReactiveMongoOperations.class).length);
+    }
+
+    @Test
+    public void shouldProvisionFeedAndReportIt() {
+        feedCollections.provisioned().block(Duration.ofSeconds(10));
+
+        Map<String, String> checks = readinessCheck.check().block(Duration.ofSeconds(10));
+
+        Assert.assertEquals(ReadinessCheck.UP, checks.get("mongo"));
+        Assert.assertEquals(ReadinessCheck.UP, checks.get("feedCollections"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.reactor.startup;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+public class StartupControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    public void shouldReportPhasesAndSlowestBeans() {
+        webTestClient.get()
+                .uri("/v1/admin/startup")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.phases.contextRefreshed").isNumber()
+                .jsonPath("$.phases.ready").isNumber()
+                .jsonPath("$.slowestBeans").isNotEmpty();
+    }
+
+    @Test
+    public void shouldCreateOnlySafeApplicationBeansLazily() {
+        Assert.assertTrue(beanFactory.getBeanDefinition("startupController").isLazyInit());
+        Assert.assertTrue(beanFactory.getBeanDefinition("errorCountController").isLazyInit());
+        Assert.assertFalse(beanFactory.getBeanDefinition("gracefulDrain").isLazyInit());
+        Assert.assertFalse(beanFactory.getBeanDefinition("drainFilter").isLazyInit());
+        Assert.assertFalse(beanFactory.getBeanDefinition("startupProperties").isLazyInit());
+        Assert.assertFalse(beanFactory.getBeanDefinition("itemRSocketServer").isLazyInit());
+    }
+}
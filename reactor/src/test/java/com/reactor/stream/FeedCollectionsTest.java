@@ -0,0 +1,73 @@
+package com.reactor.stream;
+
+import com.reactor.document.ItemCapped;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@ActiveProfiles("test")
+public class FeedCollectionsTest {
+
+    @Autowired
+    private FeedCollections feedCollections;
+    @Autowired
+    private ReactiveMongoOperations reactiveMongoOperations;
+
+    @Before
+    public void setUp() {
+        feedCollections.provisioned().block(Duration.ofSeconds(10));
+        reactiveMongoOperations.dropCollection(FeedProperties.COLLECTION).block();
+    }
+
+    @Test
+    public void shouldKeepHistoryWhenSettingsMatch() {
+        feedCollections.ensure().block();
+        reactiveMongoOperations.insert(new ItemCapped(null, "Kept", BigDecimal.ONE), FeedProperties.COLLECTION).block();
+
+        feedCollections.ensure().block();
+
+        assertEquals(1L, count());
+    }
+
+    @Test
+    public void shouldKeepHistoryWhenServerRoundedTheSize() {
+        reactiveMongoOperations.createCollection(FeedProperties.COLLECTION,
+                CollectionOptions.empty().maxDocuments(20).size(50000).capped()).block();
+        reactiveMongoOperations.insert(new ItemCapped(null, "Kept", BigDecimal.ONE), FeedProperties.COLLECTION).block();
+
+        feedCollections.ensure().block();
+
+        assertEquals(1L, count());
+    }
+
+    @Test
+    public void shouldRecreateWhenSettingsDiffer() {
+        reactiveMongoOperations.createCollection(FeedProperties.COLLECTION,
+                CollectionOptions.empty().maxDocuments(5).size(4096).capped()).block();
+        reactiveMongoOperations.insert(new ItemCapped(null, "Dropped", BigDecimal.ONE), FeedProperties.COLLECTION).block();
+
+        feedCollections.ensure().block();
+
+        assertEquals(0L, count());
+    }
+
+    private long count() {
+        return Mono.from(reactiveMongoOperations.getCollection(FeedProperties.COLLECTION).countDocuments()).block();
+    }
+}
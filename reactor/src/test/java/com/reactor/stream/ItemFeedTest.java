@@ -0,0 +1,135 @@
+package com.reactor.stream;
+
+import com.reactor.document.ItemCapped;
+import com.reactor.scheduler.ItemSchedulers;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@ActiveProfiles("test")
+public class ItemFeedTest {
+
+    @Autowired
+    private ItemFeed itemFeed;
+    @Autowired
+    private FeedCollections feedCollections;
+    @Autowired
+    private ReactiveMongoOperations reactiveMongoOperations;
+    @Autowired
+    private ItemSchedulers itemSchedulers;
+
+    @Before
+    public void setUp() {
+        feedCollections.provisioned().block(Duration.ofSeconds(10));
+        recreateFeed();
+        reactiveMongoOperations.insert(new ItemCapped(null, "Before", BigDecimal.ONE), FeedProperties.COLLECTION).block();
+    }
+
+    @Test
+    public void shouldResumeWhenCollectionIsRecreated() {
+        long gaps = itemFeed.getMetrics().get("gaps");
+
+        StepVerifier.create(itemFeed.tail(new ItemStreamFilter()))
+                .expectNextMatches(item -> item.getDescription().equals("Before"))
+                .then(() -> {
+                    recreateFeed();
+                    reactiveMongoOperations.insert(new ItemCapped(null, "After", BigDecimal.ONE), FeedProperties.COLLECTION)
+                            .block();
+                })
+                .expectNextMatches(item -> item.getDescription().equals("After"))
+                .thenCancel()
+                .verify(Duration.ofSeconds(15));
+
+        assertTrue(itemFeed.getMetrics().get("resumes") > 0);
+        assertTrue(itemFeed.getMetrics().get("gaps") > gaps);
+    }
+
+    @Test
+    public void shouldResumeEveryPartitionAfterTheGivenId() {
+        ItemFeed partitionedFeed = partitionedFeed(2);
+        String seenId = partitionedFeed.publish(new ItemCapped(null, "Seen", BigDecimal.ONE)).block().getId();
+        for (int partition = 0; partition < 2; partition++) {
+            partitionedFeed.publish(new ItemCapped(idInPartition(partition, 2), "After " + partition, BigDecimal.ONE))
+                    .block();
+        }
+
+        StepVerifier.create(partitionedFeed.tail(new ItemStreamFilter(), seenId))
+                .expectNextMatches(item -> item.getDescription().startsWith("After"))
+                .expectNextMatches(item -> item.getDescription().startsWith("After"))
+                .thenCancel()
+                .verify(Duration.ofSeconds(15));
+    }
+
+    @Test
+    public void shouldReopenAPartitionThatWasEmptyOnSubscribe() {
+        ItemFeed partitionedFeed = partitionedFeed(2);
+        partitionedFeed.publish(new ItemCapped(idInPartition(0, 2), "First", BigDecimal.ONE)).block();
+
+        StepVerifier.create(partitionedFeed.tail(new ItemStreamFilter()))
+                .expectNextMatches(item -> item.getDescription().equals("First"))
+                .then(() -> partitionedFeed.publish(new ItemCapped(idInPartition(1, 2), "Second", BigDecimal.ONE))
+                        .block())
+                .expectNextMatches(item -> item.getDescription().equals("Second"))
+                .thenCancel()
+                .verify(Duration.ofSeconds(15));
+    }
+
+    @Test
+    public void shouldNotCountReopeningEmptyCursorsAsResumes() {
+        ItemFeed partitionedFeed = partitionedFeed(2);
+
+        StepVerifier.create(partitionedFeed.tail(new ItemStreamFilter()))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofSeconds(1))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(0L, (long) partitionedFeed.getMetrics().get("resumes"));
+        assertEquals(0L, (long) partitionedFeed.getMetrics().get("gaps"));
+    }
+
+    private ItemFeed partitionedFeed(int partitions) {
+        FeedProperties partitioned = new FeedProperties();
+        partitioned.setPartitions(partitions);
+        Flux.fromIterable(partitioned.collectionNames())
+                .concatMap(reactiveMongoOperations::dropCollection)
+                .then(new FeedCollections(reactiveMongoOperations, partitioned).ensure())
+                .block();
+        return new ItemFeed(reactiveMongoOperations, itemSchedulers, partitioned);
+    }
+
+    private static String idInPartition(int partition, int partitions) {
+        while (true) {
+            String id = new ObjectId().toHexString();
+            if (Math.floorMod(id.hashCode(), partitions) == partition) {
+                return id;
+            }
+        }
+    }
+
+    private void recreateFeed() {
+        reactiveMongoOperations.dropCollection(FeedProperties.COLLECTION)
+                .then(reactiveMongoOperations.createCollection(FeedProperties.COLLECTION,
+                        CollectionOptions.empty().maxDocuments(20).size(50176).capped()))
+                .block();
+    }
+}
@@ -0,0 +1,52 @@
+package com.reactor.stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.math.BigDecimal;
+
+public class ItemStreamFilterTest {
+
+    @Test
+    public void shouldParseFilterWithinBounds() {
+        ItemStreamFilter filter = ItemStreamFilter.fromQueryParams(params("minPrice", "1.5", "maxPrice", "3",
+                "sampleMillis", "100", "maxItemsPerSecond", "10"));
+
+        Assert.assertEquals(new BigDecimal("1.5"), filter.getMinPrice());
+        Assert.assertEquals(new BigDecimal("3"), filter.getMaxPrice());
+        Assert.assertEquals(100, filter.getSampleMillis());
+        Assert.assertEquals(10, filter.getMaxItemsPerSecond());
+    }
+
+    @Test(expected = ServerWebInputException.class)
+    public void shouldRejectMalformedNumber() {
+        ItemStreamFilter.fromQueryParams(params("sampleMillis", "soon"));
+    }
+
+    @Test(expected = ServerWebInputException.class)
+    public void shouldRejectNegativeSampling() {
+        ItemStreamFilter.fromQueryParams(params("sampleMillis", "-1"));
+    }
+
+    @Test(expected = ServerWebInputException.class)
+    public void shouldRejectRateOverBound() {
+        ItemStreamFilter.fromQueryParams(params("maxItemsPerSecond",
+                String.valueOf(ItemStreamFilter.MAX_ITEMS_PER_SECOND + 1)));
+    }
+
+    @Test(expected = ServerWebInputException.class)
+    public void shouldRejectInvertedPriceRange() {
+        ItemStreamFilter.fromQueryParams(params("minPrice", "5", "maxPrice", "1"));
+    }
+
+    private static MultiValueMap<String, String> params(String... pairs) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            params.add(pairs[i], pairs[i + 1]);
+        }
+        return params;
+    }
+}
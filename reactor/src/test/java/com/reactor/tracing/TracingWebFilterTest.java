@@ -0,0 +1,59 @@
+package com.reactor.tracing;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SpringBootTest
+@RunWith(SpringRunner.class)
+@DirtiesContext
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+public class TracingWebFilterTest {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    public void shouldContinueCallerTrace() {
+        webTestClient.get()
+                .uri("/v1/items")
+                .header(TraceContext.HEADER, TRACEPARENT)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(TracingWebFilter.TRACE_ID_HEADER, "4bf92f3577b34da6a3ce929d0e0e4736");
+    }
+
+    @Test
+    public void shouldStartTraceWithoutTraceparent() {
+        webTestClient.get()
+                .uri("/v1/items")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueMatches(TracingWebFilter.TRACE_ID_HEADER, "[0-9a-f]{32}");
+    }
+
+    @Test
+    public void shouldRoundTripTraceparent() {
+        TraceContext context = TraceContext.parse(TRACEPARENT);
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.getTraceId());
+        assertEquals("00f067aa0ba902b7", context.getSpanId());
+        assertTrue(context.isSampled());
+        assertEquals(TRACEPARENT, context.traceparent());
+        assertEquals(context.getTraceId(), context.child().getTraceId());
+        assertNull(TraceContext.parse("not-a-traceparent"));
+    }
+}